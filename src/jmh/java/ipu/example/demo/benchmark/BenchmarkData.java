@@ -0,0 +1,63 @@
+package ipu.example.demo.benchmark;
+
+import ipu.example.demo.dto.TutorialDto;
+import ipu.example.demo.model.Tutorial;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates the tutorial data shared by the benchmarks.
+ */
+final class BenchmarkData {
+
+  private BenchmarkData() {
+  }
+
+  /**
+   * Creates the title of the tutorial with the given number.
+   *
+   * @param number the number of the tutorial
+   * @return the title
+   */
+  static String title(long number) {
+    return "Tutorial " + number + " about Java";
+  }
+
+  /**
+   * Creates the description of the tutorial with the given number.
+   *
+   * @param number the number of the tutorial
+   * @return the description
+   */
+  static String description(long number) {
+    return "Description of tutorial " + number + " covering Spring Boot, Hibernate and H2";
+  }
+
+  /**
+   * Creates tutorial entities with IDs starting at 1.
+   *
+   * @param count the number of tutorials
+   * @return the tutorials
+   */
+  static List<Tutorial> tutorials(int count) {
+    List<Tutorial> tutorials = new ArrayList<>(count);
+    for (long id = 1; id <= count; id++) {
+      tutorials.add(Tutorial.builder().id(id).title(title(id)).description(description(id)).version(0L).build());
+    }
+    return tutorials;
+  }
+
+  /**
+   * Creates tutorial DTOs with IDs starting at 1.
+   *
+   * @param count the number of DTOs
+   * @return the DTOs
+   */
+  static List<TutorialDto> dtos(int count) {
+    List<TutorialDto> dtos = new ArrayList<>(count);
+    for (long id = 1; id <= count; id++) {
+      dtos.add(TutorialDto.builder().id(id).title(title(id)).description(description(id)).build());
+    }
+    return dtos;
+  }
+}
@@ -0,0 +1,88 @@
+package ipu.example.demo.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import ipu.example.demo.dto.TutorialDto;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Benchmarks of the response formats of the list endpoint: JSON, CBOR and Smile, each without and
+ * with gzip compression as applied by the server above {@code server.compression.min-response-size}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TutorialFormatBenchmark {
+
+  /** Number of DTOs in the serialized list. */
+  @Param({"1000", "100000"})
+  private int size;
+
+  /** Format of the serialized list. */
+  @Param({"json", "cbor", "smile"})
+  private String format;
+
+  private ObjectWriter writer;
+
+  private List<TutorialDto> dtos;
+
+  /**
+   * Creates the object mapper of the format and the DTOs to serialize.
+   */
+  @Setup
+  public void setUp() {
+    ObjectMapper objectMapper = switch (format) {
+      case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+      case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+      default -> Jackson2ObjectMapperBuilder.json().build();
+    };
+    writer = objectMapper.writerFor(
+        objectMapper.getTypeFactory().constructCollectionType(List.class, TutorialDto.class));
+    dtos = BenchmarkData.dtos(size);
+  }
+
+  /**
+   * Serializes the list of DTOs.
+   *
+   * @return the serialized bytes
+   * @throws IOException if serialization fails
+   */
+  @Benchmark
+  public byte[] serialize() throws IOException {
+    return writer.writeValueAsBytes(dtos);
+  }
+
+  /**
+   * Serializes the list of DTOs into a gzip stream.
+   *
+   * @return the compressed bytes
+   * @throws IOException if serialization fails
+   */
+  @Benchmark
+  public byte[] serializeGzip() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+      writer.writeValue(gzip, dtos);
+    }
+    return bytes.toByteArray();
+  }
+}
@@ -0,0 +1,62 @@
+package ipu.example.demo.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import ipu.example.demo.dto.TutorialDto;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Benchmarks of the Jackson serialization of {@link TutorialDto} lists, as done for list responses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TutorialJsonBenchmark {
+
+  /** Number of DTOs in the serialized list. */
+  @Param({"10", "1000", "100000"})
+  private int size;
+
+  private ObjectWriter writer;
+
+  private List<TutorialDto> dtos;
+
+  /**
+   * Creates the object mapper, configured like the one of Spring MVC, and the DTOs to serialize.
+   */
+  @Setup
+  public void setUp() {
+    ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    writer = objectMapper.writerFor(
+        objectMapper.getTypeFactory().constructCollectionType(List.class, TutorialDto.class));
+    dtos = BenchmarkData.dtos(size);
+  }
+
+  /**
+   * Serializes the list of DTOs to JSON.
+   *
+   * @return the JSON bytes
+   * @throws JsonProcessingException if serialization fails
+   */
+  @Benchmark
+  public byte[] serializeList() throws JsonProcessingException {
+    return writer.writeValueAsBytes(dtos);
+  }
+}
@@ -0,0 +1,70 @@
+package ipu.example.demo.benchmark;
+
+import ipu.example.demo.dto.TutorialDto;
+import ipu.example.demo.mapper.TutorialMapper;
+import ipu.example.demo.mapper.TutorialMapperImpl;
+import ipu.example.demo.model.Tutorial;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the {@link TutorialMapper} converting entities to DTOs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TutorialMapperBenchmark {
+
+  /** Number of tutorials in the mapped list. */
+  @Param({"10", "1000", "100000"})
+  private int size;
+
+  private final TutorialMapper tutorialMapper = new TutorialMapperImpl();
+
+  private Tutorial tutorial;
+
+  private List<Tutorial> tutorials;
+
+  /**
+   * Creates the tutorials to map.
+   */
+  @Setup
+  public void setUp() {
+    tutorials = BenchmarkData.tutorials(size);
+    tutorial = tutorials.get(0);
+  }
+
+  /**
+   * Maps a single tutorial.
+   *
+   * @return the DTO
+   */
+  @Benchmark
+  public TutorialDto tutorialToDto() {
+    return tutorialMapper.tutorialToDto(tutorial);
+  }
+
+  /**
+   * Maps the list of tutorials.
+   *
+   * @return the DTOs
+   */
+  @Benchmark
+  public List<TutorialDto> tutorialsToDtos() {
+    return tutorialMapper.tutorialsToDtos(tutorials);
+  }
+}
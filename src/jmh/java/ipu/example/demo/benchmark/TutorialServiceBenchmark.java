@@ -0,0 +1,145 @@
+package ipu.example.demo.benchmark;
+
+import ipu.example.demo.DemoApplication;
+import ipu.example.demo.model.ServiceException;
+import ipu.example.demo.model.Tutorial;
+import ipu.example.demo.service.TutorialService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Window;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Benchmarks of the {@link TutorialService} finders against an H2 database seeded with
+ * the given number of tutorials.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class TutorialServiceBenchmark {
+
+  /** Number of rows inserted per JDBC batch while seeding. */
+  private static final int SEED_BATCH_SIZE = 10_000;
+
+  /** Number of tutorials in the database. */
+  @Param({"10000", "100000", "1000000"})
+  private int rows;
+
+  private ConfigurableApplicationContext context;
+
+  private TutorialService tutorialService;
+
+  /**
+   * Starts the application without web server on a fresh in-memory database and seeds the tutorials.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = new SpringApplicationBuilder(DemoApplication.class)
+        .web(WebApplicationType.NONE)
+        .run(
+            "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+            "--spring.sql.init.mode=never",
+            "--spring.jpa.hibernate.ddl-auto=create-drop",
+            "--spring.jpa.show-sql=false",
+            "--spring.jpa.properties.hibernate.format_sql=false",
+            "--logging.level.root=WARN");
+    tutorialService = context.getBean(TutorialService.class);
+
+    JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+    for (int start = 1; start <= rows; start += SEED_BATCH_SIZE) {
+      int end = Math.min(start + SEED_BATCH_SIZE - 1, rows);
+      List<Object[]> batch = new ArrayList<>(end - start + 1);
+      for (long id = start; id <= end; id++) {
+        batch.add(new Object[] {id, BenchmarkData.title(id), BenchmarkData.description(id)});
+      }
+      jdbcTemplate.batchUpdate("insert into tutorials (id, title, description, version) values (?, ?, ?, 0)", batch);
+    }
+  }
+
+  /**
+   * Stops the application and drops the database.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  /**
+   * Looks up a random tutorial by ID.
+   *
+   * @return the tutorial
+   */
+  @Benchmark
+  public Optional<Tutorial> getTutorialById() {
+    return tutorialService.getTutorialById(randomId());
+  }
+
+  /**
+   * Retrieves a page of 100 tutorials after a random ID.
+   *
+   * @return the page
+   * @throws ServiceException if the retrieval fails
+   */
+  @Benchmark
+  public Window<Tutorial> getTutorialsAfter() throws ServiceException {
+    return tutorialService.getTutorialsAfter(randomId(), 100);
+  }
+
+  /**
+   * Searches the titles for the number of a random tutorial.
+   *
+   * @return the matching tutorials
+   * @throws ServiceException if the search fails
+   */
+  @Benchmark
+  public List<Tutorial> findByTitleContaining() throws ServiceException {
+    return tutorialService.findByTitleContaining("Tutorial " + randomId() + " ");
+  }
+
+  /**
+   * Searches the descriptions for the number of a random tutorial.
+   *
+   * @return the matching tutorials
+   * @throws ServiceException if the search fails
+   */
+  @Benchmark
+  public List<Tutorial> findByDescriptionContaining() throws ServiceException {
+    return tutorialService.findByDescriptionContaining("tutorial " + randomId() + " ");
+  }
+
+  /**
+   * Retrieves all tutorials.
+   *
+   * @return all tutorials
+   */
+  @Benchmark
+  public List<Tutorial> getAllTutorials() {
+    return tutorialService.getAllTutorials();
+  }
+
+  private long randomId() {
+    return ThreadLocalRandom.current().nextLong(1, rows + 1);
+  }
+}
@@ -0,0 +1,123 @@
+package ipu.example.demo.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Configuration class enabling {@link org.springframework.scheduling.annotation.Async @Async} and providing
+ * the executors the asynchronous tutorial service and the change stream run on.
+ * <p>
+ * On platform threads a bounded pool is used; if its queue is full, the calling thread runs the task itself,
+ * which slows down callers instead of failing requests. With virtual threads enabled, each task runs on its own
+ * virtual thread, limited to the maximum pool size. The executor metrics are published via Actuator.
+ * <p>
+ * The events of the change stream are sent on a separate bounded pool in both threading modes, as sending may
+ * block on slow subscribers. Its tasks are scheduled by writing threads after commit, so a full queue rejects
+ * the task instead of running it on the caller or waiting for a free thread.
+ * <p>
+ * As defining an executor suppresses Spring Boot's {@code applicationTaskExecutor} (used e.g. for streamed
+ * responses), {@code spring.task.execution.mode=force} has to be set in the application properties.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+  /**
+   * Name of the executor running the asynchronous tutorial service.
+   */
+  public static final String TUTORIAL_EXECUTOR = "tutorialExecutor";
+
+  /**
+   * Name of the executor sending the events of the change stream.
+   */
+  public static final String CHANGE_STREAM_EXECUTOR = "changeStreamExecutor";
+
+  /** Prefix of the names of the executor threads. */
+  private static final String THREAD_NAME_PREFIX = "tutorial-";
+
+  /** Prefix of the names of the change stream threads. */
+  private static final String CHANGE_STREAM_THREAD_NAME_PREFIX = "tutorial-changes-";
+
+  @Value("${ipu.example.demo.async.core-size:8}")
+  private int coreSize;
+
+  @Value("${ipu.example.demo.async.max-size:32}")
+  private int maxSize;
+
+  @Value("${ipu.example.demo.async.queue-capacity:1000}")
+  private int queueCapacity;
+
+  @Value("${ipu.example.demo.change-feed.send-threads:4}")
+  private int changeStreamThreads;
+
+  @Value("${ipu.example.demo.change-feed.send-queue-capacity:1000}")
+  private int changeStreamQueueCapacity;
+
+  /**
+   * Executor of the asynchronous tutorial service on platform threads.
+   *
+   * @param builder the builder preconfigured by Spring Boot
+   * @return the executor
+   */
+  @Bean(name = TUTORIAL_EXECUTOR)
+  @ConditionalOnThreading(Threading.PLATFORM)
+  public ThreadPoolTaskExecutor tutorialExecutor(ThreadPoolTaskExecutorBuilder builder) {
+    return builder
+        .corePoolSize(coreSize)
+        .maxPoolSize(maxSize)
+        .queueCapacity(queueCapacity)
+        .threadNamePrefix(THREAD_NAME_PREFIX)
+        .acceptTasksAfterContextClose(false)
+        .additionalCustomizers(executor ->
+            executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy()))
+        .build();
+  }
+
+  /**
+   * Executor of the asynchronous tutorial service on virtual threads.
+   *
+   * @param builder the builder preconfigured by Spring Boot
+   * @return the executor
+   */
+  @Bean(name = TUTORIAL_EXECUTOR)
+  @ConditionalOnThreading(Threading.VIRTUAL)
+  public SimpleAsyncTaskExecutor tutorialVirtualThreadExecutor(SimpleAsyncTaskExecutorBuilder builder) {
+    return builder
+        .virtualThreads(true)
+        .concurrencyLimit(maxSize)
+        .threadNamePrefix(THREAD_NAME_PREFIX)
+        .build();
+  }
+
+  /**
+   * Executor sending the events of the change stream.
+   * <p>
+   * As each subscriber has at most one delivery scheduled, the queue capacity limits the number of subscribers
+   * waiting for a thread; further deliveries are rejected with a
+   * {@link org.springframework.core.task.TaskRejectedException TaskRejectedException}.
+   *
+   * @param builder the builder preconfigured by Spring Boot
+   * @return the executor
+   */
+  @Bean(name = CHANGE_STREAM_EXECUTOR)
+  public ThreadPoolTaskExecutor changeStreamExecutor(ThreadPoolTaskExecutorBuilder builder) {
+    return builder
+        .corePoolSize(changeStreamThreads)
+        .maxPoolSize(changeStreamThreads)
+        .queueCapacity(changeStreamQueueCapacity)
+        .threadNamePrefix(CHANGE_STREAM_THREAD_NAME_PREFIX)
+        .acceptTasksAfterContextClose(false)
+        .additionalCustomizers(executor ->
+            executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy()))
+        .build();
+  }
+}
@@ -0,0 +1,20 @@
+package ipu.example.demo.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class enabling the Spring cache abstraction.
+ * <p>
+ * The cache provider is Caffeine, configured via {@code spring.cache.*} in the application properties
+ * (maximum size, expiry and statistics). Setting {@code spring.cache.type=none} disables caching.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+  /**
+   * Name of the cache holding {@link ipu.example.demo.model.Tutorial} entities by ID.
+   */
+  public static final String TUTORIALS_CACHE = "tutorials";
+}
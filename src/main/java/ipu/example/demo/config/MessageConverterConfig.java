@@ -0,0 +1,49 @@
+package ipu.example.demo.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Configuration of the binary Jackson formats offered besides JSON.
+ * <p>
+ * Clients requesting {@code application/cbor} or {@code application/x-jackson-smile} via {@code Accept}
+ * receive the same DTOs in a binary encoding, which is smaller and cheaper to generate than JSON text.
+ * Both converters are built from the {@link Jackson2ObjectMapperBuilder} of Spring Boot, so the
+ * {@code spring.jackson.*} settings apply to them as to JSON. They replace the default converters of
+ * Spring MVC, which would be configured without these settings.
+ */
+@Configuration
+public class MessageConverterConfig {
+
+  /**
+   * Media type of Smile, the binary JSON format of Jackson.
+   */
+  public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+  /**
+   * Creates the converter for CBOR (RFC 8949).
+   *
+   * @param builder the object mapper builder configured by Spring Boot
+   * @return the CBOR message converter
+   */
+  @Bean
+  public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+    return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+  }
+
+  /**
+   * Creates the converter for Smile.
+   *
+   * @param builder the object mapper builder configured by Spring Boot
+   * @return the Smile message converter
+   */
+  @Bean
+  public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+    return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+  }
+}
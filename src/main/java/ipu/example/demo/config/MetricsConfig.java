@@ -0,0 +1,49 @@
+package ipu.example.demo.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the application metrics published via Actuator.
+ * <p>
+ * Enables {@link io.micrometer.core.annotation.Timed @Timed} on Spring beans. Percentile histograms and
+ * SLO buckets of the timers are configured via {@code management.metrics.distribution.*}
+ * in the application properties.
+ */
+@Configuration
+public class MetricsConfig {
+
+  /**
+   * Name of the timer recorded for the methods of the tutorial controller.
+   */
+  public static final String CONTROLLER_TIMER = "tutorial.controller";
+
+  /**
+   * Name of the timer recorded for the methods of the tutorial service.
+   */
+  public static final String SERVICE_TIMER = "tutorial.service";
+
+  /**
+   * Name of the distribution summary of the rows returned or changed by repository methods.
+   */
+  public static final String REPOSITORY_ROWS = "tutorial.repository.rows";
+
+  /**
+   * Name of the counter of errors, tagged by exception type.
+   */
+  public static final String ERRORS_COUNTER = "tutorial.errors";
+
+  /**
+   * Aspect recording a timer for each method annotated (or declared in a class annotated) with
+   * {@link io.micrometer.core.annotation.Timed @Timed}.
+   *
+   * @param meterRegistry the registry to record to
+   * @return the aspect
+   */
+  @Bean
+  public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+    return new TimedAspect(meterRegistry);
+  }
+}
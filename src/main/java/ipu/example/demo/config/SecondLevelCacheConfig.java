@@ -0,0 +1,147 @@
+package ipu.example.demo.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import ipu.example.demo.model.Tutorial;
+import ipu.example.demo.repository.TutorialRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class of the Hibernate second-level and query cache.
+ * <p>
+ * The cache is local to the process: a JCache {@link CacheManager} of Caffeine holds the regions of the
+ * {@link Tutorial} entities, of the finder results of the {@link TutorialRepository} and the default region of
+ * query results, all limited to {@code maximum-size} entries and expiring after {@code expire-after-write}.
+ * The region of the update timestamps, which tells Hibernate whether cached query results are outdated, is
+ * neither limited nor expiring. Hibernate must not create any other region with an unbounded default
+ * configuration; the {@code l2cache} profile sets {@code hibernate.javax.cache.missing_cache_strategy} to
+ * {@code fail}.
+ * <p>
+ * Hit and miss counts are published per region by the Hibernate metrics of Actuator
+ * ({@code hibernate.second.level.cache.requests}, {@code hibernate.cache.query.requests}), if
+ * {@code hibernate.generate_statistics} is enabled; the number of entries per region is published as the
+ * {@value #SIZE_GAUGE} gauge. The configuration is only active if
+ * {@code spring.jpa.properties.hibernate.cache.use_second_level_cache} is {@code true}, as set by the
+ * {@code l2cache} profile.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.jpa.properties.hibernate.cache.use_second_level_cache", havingValue = "true")
+public class SecondLevelCacheConfig {
+
+  /**
+   * Name of the gauge of the entries per region.
+   */
+  public static final String SIZE_GAUGE = "tutorial.l2cache.size";
+
+  /**
+   * Regions limited in size and expiring.
+   */
+  private static final List<String> BOUNDED_REGIONS = List.of(Tutorial.CACHE_REGION,
+      TutorialRepository.QUERY_CACHE_REGION, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+
+  /**
+   * Creates the cache manager of the second-level cache with its regions.
+   * <p>
+   * Regions left over from another application context in the same class loader are reused.
+   *
+   * @param maximumSize the maximum number of entries of the entity and query regions
+   * @param expireAfterWrite the time after which entries of the entity and query regions expire
+   * @return the cache manager
+   */
+  @Bean(destroyMethod = "close")
+  public CacheManager secondLevelCacheManager(
+      @Value("${ipu.example.demo.l2cache.maximum-size:10000}") long maximumSize,
+      @Value("${ipu.example.demo.l2cache.expire-after-write:10m}") Duration expireAfterWrite) {
+    CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+    CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+    for (String region : BOUNDED_REGIONS) {
+      createIfMissing(cacheManager, region, regionConfiguration()
+          .setMaximumSize(OptionalLong.of(maximumSize))
+          .setExpireAfterWrite(OptionalLong.of(expireAfterWrite.toNanos())));
+    }
+    createIfMissing(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+        regionConfiguration());
+    return cacheManager;
+  }
+
+  /**
+   * Lets Hibernate use the cache manager of the second-level cache instead of creating its own.
+   *
+   * @param secondLevelCacheManager the cache manager
+   * @return the customizer of the Hibernate properties
+   */
+  @Bean
+  public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+    return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+  }
+
+  /**
+   * Publishes the number of entries of each region.
+   *
+   * @param secondLevelCacheManager the cache manager
+   * @return the binder registering a {@value #SIZE_GAUGE} gauge per region
+   */
+  @Bean
+  public MeterBinder secondLevelCacheSizes(CacheManager secondLevelCacheManager) {
+    return registry -> secondLevelCacheManager.getCacheNames().forEach(region ->
+        Gauge.builder(SIZE_GAUGE, secondLevelCacheManager, cacheManager -> estimatedSize(cacheManager, region))
+            .tag("region", region)
+            .register(registry));
+  }
+
+  /**
+   * Returns the estimated number of entries of a region.
+   *
+   * @param cacheManager the cache manager
+   * @param region the name of the region
+   * @return the number of entries, {@link Double#NaN} if the region is closed
+   */
+  private static double estimatedSize(CacheManager cacheManager, String region) {
+    javax.cache.Cache<Object, Object> cache = cacheManager.isClosed() ? null : cacheManager.getCache(region);
+    if (cache == null) {
+      return Double.NaN;
+    }
+    return cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class).estimatedSize();
+  }
+
+  /**
+   * Creates the common configuration of the regions: entries are stored by reference, since Hibernate
+   * already caches disassembled copies, and statistics are recorded.
+   *
+   * @return the configuration
+   */
+  private static CaffeineConfiguration<Object, Object> regionConfiguration() {
+    return new CaffeineConfiguration<>()
+        .setStoreByValue(false)
+        .setStatisticsEnabled(true)
+        .setNativeStatisticsEnabled(true);
+  }
+
+  /**
+   * Creates a region unless it already exists.
+   *
+   * @param cacheManager the cache manager
+   * @param region the name of the region
+   * @param configuration the configuration of the region
+   */
+  private static void createIfMissing(CacheManager cacheManager, String region,
+      CaffeineConfiguration<Object, Object> configuration) {
+    if (cacheManager.getCache(region) == null) {
+      cacheManager.createCache(region, configuration);
+    }
+  }
+}
@@ -0,0 +1,210 @@
+package ipu.example.demo.controller;
+
+import ipu.example.demo.config.AsyncConfig;
+import ipu.example.demo.dto.TutorialChangeDto;
+import ipu.example.demo.service.TutorialChangeFeed;
+import ipu.example.demo.service.TutorialChangeTracker;
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Streams the changes of the {@link TutorialChangeFeed} to Server-Sent Events subscribers.
+ * <p>
+ * Each subscriber only keeps the sequence number of the last change sent to it; the changes themselves
+ * are read from the ring buffer of the feed. A change wakes the subscribers without blocking the writer,
+ * and the changes are sent on the bounded {@value AsyncConfig#CHANGE_STREAM_EXECUTOR}. If its queue is full,
+ * the subscriber whose delivery is rejected is completed; its client reconnects with the
+ * {@code Last-Event-ID} once the stream has caught up. A subscriber falling more than
+ * {@code subscriber-buffer} changes behind, or behind the oldest change kept, receives an
+ * {@value #OVERFLOW_EVENT} event and continues with the latest change; it has to reload the tutorials.
+ * <p>
+ * Event IDs combine the epoch of the {@link TutorialChangeTracker} and the sequence number, so a
+ * {@code Last-Event-ID} of an earlier application run is recognized and answered with an overflow.
+ */
+@Component
+class TutorialChangeStreams {
+
+  /** Name of the event signalling that changes have been skipped. */
+  static final String OVERFLOW_EVENT = "overflow";
+
+  /** Maximum number of changes read from the feed at once. */
+  private static final int READ_BATCH_SIZE = 100;
+
+  private final TutorialChangeFeed changeFeed;
+  private final String epoch;
+  private final Executor executor;
+  private final int subscriberBuffer;
+
+  /**
+   * Constructor with dependency injection.
+   *
+   * @param changeFeed the feed providing the changes
+   * @param changeTracker the tracker providing the epoch of the event IDs
+   * @param executor the executor sending the events
+   * @param subscriberBuffer the maximum number of changes a subscriber may fall behind
+   */
+  TutorialChangeStreams(TutorialChangeFeed changeFeed, TutorialChangeTracker changeTracker,
+      @Qualifier(AsyncConfig.CHANGE_STREAM_EXECUTOR) Executor executor,
+      @Value("${ipu.example.demo.change-feed.subscriber-buffer:1000}") int subscriberBuffer) {
+    this.changeFeed = changeFeed;
+    this.epoch = Long.toString(changeTracker.getEpoch(), Character.MAX_RADIX);
+    this.executor = executor;
+    this.subscriberBuffer = subscriberBuffer;
+  }
+
+  /**
+   * Subscribes to the changes.
+   *
+   * @param lastEventId the ID of the last event received before reconnecting, {@code null} to receive
+   *     only changes from now on
+   * @return the emitter sending the events
+   */
+  SseEmitter subscribe(String lastEventId) {
+    SseEmitter emitter = new SseEmitter();
+    new Subscription(emitter, lastEventId == null ? changeFeed.getLastSequence() : parseEventId(lastEventId))
+        .start();
+    return emitter;
+  }
+
+  /**
+   * Creates the event ID of a sequence number.
+   *
+   * @param sequence the sequence number
+   * @return the event ID
+   */
+  private String eventId(long sequence) {
+    return epoch + "-" + sequence;
+  }
+
+  /**
+   * Parses an event ID created by {@link #eventId(long)}.
+   *
+   * @param eventId the event ID sent by the client
+   * @return the sequence number, {@code -1} if the ID is malformed, of another application run or unknown
+   */
+  private long parseEventId(String eventId) {
+    int separator = eventId.lastIndexOf('-');
+    if (separator < 0 || !epoch.equals(eventId.substring(0, separator))) {
+      return -1L;
+    }
+    try {
+      long sequence = Long.parseLong(eventId.substring(separator + 1));
+      return sequence <= changeFeed.getLastSequence() ? sequence : -1L;
+    } catch (NumberFormatException e) {
+      return -1L;
+    }
+  }
+
+  /**
+   * Delivery of the changes to one subscriber.
+   * <p>
+   * At most one delivery runs at a time; {@link #scheduled} is set while a delivery is scheduled or running.
+   */
+  private final class Subscription {
+
+    private final SseEmitter emitter;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final Runnable listener = this::signal;
+    private volatile boolean closed;
+
+    /** Sequence number of the last change sent, only accessed by the running delivery. */
+    private long cursor;
+
+    /**
+     * Creates the delivery for a subscriber.
+     *
+     * @param emitter the emitter of the subscriber
+     * @param cursor the sequence number of the last change the subscriber has seen
+     */
+    Subscription(SseEmitter emitter, long cursor) {
+      this.emitter = emitter;
+      this.cursor = cursor;
+    }
+
+    /**
+     * Registers the subscription and sends the changes missed since the cursor.
+     */
+    void start() {
+      emitter.onCompletion(this::close);
+      emitter.onTimeout(this::close);
+      emitter.onError(e -> close());
+      changeFeed.addListener(listener);
+      signal();
+    }
+
+    /**
+     * Schedules a delivery unless one is scheduled or running. Does not block; if the executor rejects the
+     * delivery, the subscription is closed and the emitter completed.
+     */
+    void signal() {
+      if (!closed && scheduled.compareAndSet(false, true)) {
+        try {
+          executor.execute(this::deliver);
+        } catch (RejectedExecutionException e) {
+          close();
+          emitter.complete();
+        }
+      }
+    }
+
+    /**
+     * Sends the pending changes, repeating as long as changes arrive during sending.
+     */
+    private void deliver() {
+      try {
+        do {
+          sendPending();
+          scheduled.set(false);
+        } while (!closed && changeFeed.hasChangesAfter(cursor) && scheduled.compareAndSet(false, true));
+      } catch (IOException | IllegalStateException e) {
+        scheduled.set(false);
+        close();
+        emitter.completeWithError(e);
+      }
+    }
+
+    /**
+     * Sends the changes following the cursor, or an overflow if the subscriber is too far behind.
+     *
+     * @throws IOException if sending fails
+     */
+    private void sendPending() throws IOException {
+      while (!closed) {
+        long lastSequence = changeFeed.getLastSequence();
+        if (lastSequence - cursor > subscriberBuffer || cursor + 1 < changeFeed.getOldestSequence()) {
+          cursor = lastSequence;
+          emitter.send(SseEmitter.event().id(eventId(cursor)).name(OVERFLOW_EVENT).data(cursor));
+          continue;
+        }
+        List<TutorialChangeDto> changes = changeFeed.readAfter(cursor, READ_BATCH_SIZE);
+        if (changes.isEmpty()) {
+          return;
+        }
+        for (TutorialChangeDto change : changes) {
+          emitter.send(SseEmitter.event()
+              .id(eventId(change.getSequence()))
+              .name(change.getType().name().toLowerCase(Locale.ROOT))
+              .data(change, MediaType.APPLICATION_JSON));
+          cursor = change.getSequence();
+        }
+      }
+    }
+
+    /**
+     * Unregisters the subscription.
+     */
+    private void close() {
+      closed = true;
+      changeFeed.removeListener(listener);
+    }
+  }
+}
@@ -0,0 +1,316 @@
+package ipu.example.demo.controller;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Adaptive concurrency limit in front of the {@code /api/tutorials} endpoints.
+ * <p>
+ * The limit follows the measured latency like a gradient limiter: the latency of every completed request is
+ * compared with its long-term average. While the latency stays within {@code tolerance} times the average and
+ * the limit is actually used, the limit grows by its square root; if the latency rises, the limit shrinks by the
+ * ratio of average to current latency, at most by half. A response with a server error counts as a drop and
+ * reduces the limit by {@code backoff-ratio}. The limit stays between {@code min-limit} and {@code max-limit}.
+ * <p>
+ * Requests beyond the limit are not queued but rejected immediately with 503 and {@code Retry-After}.
+ * Reads ({@code GET}, {@code HEAD} and the posted lookup by IDs) may only use {@code read-share} of the limit,
+ * so under overload they are shed before writes. The Server-Sent Events stream and the export are long-lived
+ * and not limited.
+ * <p>
+ * The current limit, the requests in flight and the rejections are published as the {@value #LIMIT_GAUGE}
+ * and {@value #IN_FLIGHT_GAUGE} gauges and the {@value #REJECTED_COUNTER} counter tagged by priority.
+ * The filter is only created if {@code ipu.example.demo.concurrency-limit.enabled} is {@code true}.
+ */
+@Component
+@ConditionalOnProperty(name = "ipu.example.demo.concurrency-limit.enabled", havingValue = "true")
+public class TutorialConcurrencyLimitFilter extends OncePerRequestFilter {
+
+  /** Name of the gauge of the current concurrency limit. */
+  static final String LIMIT_GAUGE = "tutorial.concurrency.limit";
+
+  /** Name of the gauge of the requests in flight. */
+  static final String IN_FLIGHT_GAUGE = "tutorial.concurrency.in-flight";
+
+  /** Name of the counter of the rejected requests. */
+  static final String REJECTED_COUNTER = "tutorial.concurrency.rejected";
+
+  /** Path prefix of the limited endpoints. */
+  private static final String BASE_PATH = "/api/tutorials";
+
+  /** Long-lived endpoints excluded from the limit, their duration says nothing about the load. */
+  private static final Set<String> EXCLUDED_PATHS = Set.of(BASE_PATH + "/changes", BASE_PATH + "/export");
+
+  /** Path of the lookup by IDs, which only reads although it is posted. */
+  private static final String LOOKUP_PATH = BASE_PATH + "/lookup";
+
+  /** Number of samples the long-term average latency is taken over. */
+  private static final int LONG_WINDOW = 600;
+
+  /** Weight of a new limit estimate against the current limit. */
+  private static final double SMOOTHING = 0.2;
+
+  /**
+   * Priority of a request; requests of lower priority are rejected first.
+   */
+  enum Priority {
+    /** Reading requests, limited to the read share of the limit. */
+    READ,
+    /** Writing requests, limited to the full limit. */
+    WRITE
+  }
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final double readShare;
+  private final double tolerance;
+  private final double backoffRatio;
+  private final String retryAfter;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final Counter rejectedReads;
+  private final Counter rejectedWrites;
+
+  /** The current limit; written under {@code this}, read without lock for admission. */
+  private volatile double limit;
+
+  /** Long-term average latency in nanoseconds, {@code 0} before the first sample; guarded by {@code this}. */
+  private double longLatency;
+
+  /**
+   * Constructor with dependency injection.
+   *
+   * @param initialLimit the limit before the first latency has been measured
+   * @param minLimit the lower bound of the limit
+   * @param maxLimit the upper bound of the limit
+   * @param readShare the share of the limit reads may use, between 0 and 1
+   * @param tolerance the factor the latency may exceed its long-term average before the limit shrinks
+   * @param backoffRatio the factor the limit is reduced by for a server error
+   * @param retryAfter the time after which rejected clients should retry
+   * @param meterRegistry the registry to publish the limit metrics to
+   */
+  public TutorialConcurrencyLimitFilter(
+      @Value("${ipu.example.demo.concurrency-limit.initial-limit:20}") int initialLimit,
+      @Value("${ipu.example.demo.concurrency-limit.min-limit:4}") int minLimit,
+      @Value("${ipu.example.demo.concurrency-limit.max-limit:200}") int maxLimit,
+      @Value("${ipu.example.demo.concurrency-limit.read-share:0.9}") double readShare,
+      @Value("${ipu.example.demo.concurrency-limit.tolerance:1.5}") double tolerance,
+      @Value("${ipu.example.demo.concurrency-limit.backoff-ratio:0.9}") double backoffRatio,
+      @Value("${ipu.example.demo.concurrency-limit.retry-after:1s}") Duration retryAfter,
+      MeterRegistry meterRegistry) {
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.readShare = readShare;
+    this.tolerance = tolerance;
+    this.backoffRatio = backoffRatio;
+    this.retryAfter = Long.toString(Math.max(1L, retryAfter.toSeconds()));
+    this.limit = Math.min(Math.max(initialLimit, minLimit), maxLimit);
+    this.rejectedReads = Counter.builder(REJECTED_COUNTER).tag("priority", "read").register(meterRegistry);
+    this.rejectedWrites = Counter.builder(REJECTED_COUNTER).tag("priority", "write").register(meterRegistry);
+    Gauge.builder(LIMIT_GAUGE, this, TutorialConcurrencyLimitFilter::getLimit).register(meterRegistry);
+    Gauge.builder(IN_FLIGHT_GAUGE, inFlight, AtomicInteger::get).register(meterRegistry);
+  }
+
+  /**
+   * Only limits the tutorial endpoints, except the long-lived ones.
+   *
+   * @param request the current request
+   * @return {@code true} if the request passes without limit
+   */
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    String path = request.getRequestURI().substring(request.getContextPath().length());
+    return !(path.equals(BASE_PATH) || path.startsWith(BASE_PATH + "/")) || EXCLUDED_PATHS.contains(path);
+  }
+
+  /**
+   * Admits the request within the limit or rejects it with 503, and measures its latency.
+   * For asynchronous requests the latency is measured until the response is complete.
+   *
+   * @param request the current request
+   * @param response the current response
+   * @param filterChain the remaining filter chain
+   * @throws ServletException if the chain fails
+   * @throws IOException if the chain fails
+   */
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    Priority priority = HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod())
+        || request.getRequestURI().substring(request.getContextPath().length()).equals(LOOKUP_PATH)
+        ? Priority.READ : Priority.WRITE;
+    int inFlightAtStart = tryAcquire(priority);
+    if (inFlightAtStart < 0) {
+      response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+      response.setHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+      return;
+    }
+    long start = System.nanoTime();
+    boolean async = false;
+    try {
+      filterChain.doFilter(request, response);
+      if (request.isAsyncStarted()) {
+        request.getAsyncContext().addListener(new Release(start, inFlightAtStart, response));
+        async = true;
+      }
+    } catch (IOException | ServletException | RuntimeException e) {
+      release(System.nanoTime() - start, inFlightAtStart, true);
+      throw e;
+    }
+    if (!async) {
+      release(System.nanoTime() - start, inFlightAtStart, isDropped(response));
+    }
+  }
+
+  /**
+   * Takes a slot of the limit if the share of the priority is not exhausted.
+   *
+   * @param priority the priority of the request
+   * @return the number of requests in flight including this one, {@code -1} if the request is rejected
+   */
+  int tryAcquire(Priority priority) {
+    int allowed = Math.max(1, (int) (priority == Priority.READ ? limit * readShare : limit));
+    while (true) {
+      int current = inFlight.get();
+      if (current >= allowed) {
+        (priority == Priority.READ ? rejectedReads : rejectedWrites).increment();
+        return -1;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return current + 1;
+      }
+    }
+  }
+
+  /**
+   * Frees the slot of a completed request and adapts the limit to its latency.
+   *
+   * @param latencyNanos the latency of the request
+   * @param inFlightAtStart the number of requests in flight when the request was admitted
+   * @param dropped whether the request failed with a server error
+   */
+  void release(long latencyNanos, int inFlightAtStart, boolean dropped) {
+    inFlight.decrementAndGet();
+    synchronized (this) {
+      limit = Math.min(Math.max(estimate(Math.max(1L, latencyNanos), inFlightAtStart, dropped), minLimit), maxLimit);
+    }
+  }
+
+  /**
+   * Estimates the new limit from a latency sample; must be called under {@code this}.
+   *
+   * @param latency the latency of the request in nanoseconds
+   * @param inFlightAtStart the number of requests in flight when the request was admitted
+   * @param dropped whether the request failed with a server error
+   * @return the new limit before applying the bounds
+   */
+  private double estimate(long latency, int inFlightAtStart, boolean dropped) {
+    if (dropped) {
+      return limit * backoffRatio;
+    }
+    if (longLatency == 0) {
+      longLatency = latency;
+    } else {
+      longLatency += (latency - longLatency) * 2 / (LONG_WINDOW + 1);
+      if (longLatency > 2 * latency) {
+        // load has dropped, let the average follow faster so the limit can grow again
+        longLatency *= 0.95;
+      }
+    }
+    if (inFlightAtStart < limit / 2) {
+      // the limit is not used, the latency says nothing about it
+      return limit;
+    }
+    double gradient = Math.max(0.5, Math.min(1.0, tolerance * longLatency / latency));
+    double estimated = limit * gradient + Math.sqrt(limit);
+    return limit * (1 - SMOOTHING) + estimated * SMOOTHING;
+  }
+
+  /**
+   * Returns the current concurrency limit.
+   *
+   * @return the limit, rounded down
+   */
+  int getLimit() {
+    return (int) limit;
+  }
+
+  /**
+   * Returns the number of requests in flight.
+   *
+   * @return the requests in flight
+   */
+  int getInFlight() {
+    return inFlight.get();
+  }
+
+  /**
+   * Checks whether a response reports a server error.
+   *
+   * @param response the response
+   * @return {@code true} for a 5xx status
+   */
+  private static boolean isDropped(HttpServletResponse response) {
+    return response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+  }
+
+  /**
+   * Frees the slot of an asynchronous request once its response is complete. The servlet container
+   * calls {@code onComplete} after errors and timeouts as well.
+   */
+  private final class Release implements AsyncListener {
+
+    private final long start;
+    private final int inFlightAtStart;
+    private final HttpServletResponse response;
+
+    /**
+     * Creates the listener of an asynchronous request.
+     *
+     * @param start the time the request was admitted, from {@link System#nanoTime()}
+     * @param inFlightAtStart the number of requests in flight when the request was admitted
+     * @param response the response of the request
+     */
+    Release(long start, int inFlightAtStart, HttpServletResponse response) {
+      this.start = start;
+      this.inFlightAtStart = inFlightAtStart;
+      this.response = response;
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      release(System.nanoTime() - start, inFlightAtStart, isDropped(response));
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+      // followed by onComplete
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+      // followed by onComplete
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+      // the listener is registered after the asynchronous request has started
+    }
+  }
+}
@@ -1,115 +1,685 @@
 package ipu.example.demo.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import ipu.example.demo.config.MessageConverterConfig;
+import ipu.example.demo.config.MetricsConfig;
+import ipu.example.demo.dto.TutorialBatchResultDto;
+import ipu.example.demo.dto.TutorialChangeDto;
+import ipu.example.demo.dto.TutorialDeltaDto;
 import ipu.example.demo.dto.TutorialDto;
+import ipu.example.demo.dto.TutorialLookupResultDto;
+import ipu.example.demo.dto.TutorialSearchResultDto;
+import ipu.example.demo.dto.TutorialSuggestionDto;
 import ipu.example.demo.mapper.TutorialMapper;
+import ipu.example.demo.model.ServiceException;
 import ipu.example.demo.model.Tutorial;
+import ipu.example.demo.model.VersionConflictException;
+import ipu.example.demo.service.TutorialAsyncService;
+import ipu.example.demo.service.TutorialChangeTracker;
 import ipu.example.demo.service.TutorialService;
+import ipu.example.demo.service.TutorialTitleSuggester;
+import ipu.example.demo.service.TutorialWriteCoalescer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * REST controller for managing {@link Tutorial} resources.
  * Provides endpoints to create, read, update, delete, and search tutorials.
+ * <p>
+ * The duration of each endpoint is recorded in the {@value MetricsConfig#CONTROLLER_TIMER} timer,
+ * failures in the {@value MetricsConfig#ERRORS_COUNTER} counter tagged by exception type.
  */
+@Slf4j
 @RestController
+@Timed(value = MetricsConfig.CONTROLLER_TIMER, histogram = true)
 @RequestMapping("/api/tutorials")
 @Tag(name = "Tutorial", description = "Tutorial management APIs")
 public class TutorialController {
 
+  /**
+   * Media type of newline delimited JSON, used for exporting tutorials.
+   */
+  static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
   private final TutorialService tutorialService;
+  private final TutorialAsyncService tutorialAsyncService;
   private final TutorialMapper tutorialMapper;
+  private final ObjectMapper objectMapper;
+  private final TutorialChangeTracker changeTracker;
+  private final TutorialTitleSuggester titleSuggester;
+  private final MeterRegistry meterRegistry;
+  private final HttpMessageConverters messageConverters;
+  private final TutorialWriteCoalescer writeCoalescer;
+  private final TutorialChangeStreams changeStreams;
+  private final TutorialResponseCache responseCache;
 
   /**
    * Constructor with dependency injection.
    *
    * @param tutorialService service layer for handling tutorial operations
+   * @param tutorialAsyncService service layer for reading tutorials asynchronously
+   * @param tutorialMapper mapper converting between entities and DTOs
+   * @param objectMapper JSON mapper used for streamed responses
+   * @param changeTracker tracker of the data generation used for list ETags
+   * @param titleSuggester in-memory index of the titles used for autocompletion
+   * @param meterRegistry registry recording the error counters
+   * @param messageConverters converters providing the object mappers of the binary request formats
+   * @param writeCoalescer provider of the optional {@link TutorialWriteCoalescer} for group commits
+   * @param changeStreams streams of the change feed to Server-Sent Events subscribers
+   * @param responseCache provider of the optional {@link TutorialResponseCache} of list and search responses
    */
-  public TutorialController(TutorialService tutorialService, TutorialMapper tutorialMapper) {
+  public TutorialController(TutorialService tutorialService, TutorialAsyncService tutorialAsyncService,
+      TutorialMapper tutorialMapper, ObjectMapper objectMapper, TutorialChangeTracker changeTracker,
+      TutorialTitleSuggester titleSuggester, MeterRegistry meterRegistry, HttpMessageConverters messageConverters,
+      ObjectProvider<TutorialWriteCoalescer> writeCoalescer, TutorialChangeStreams changeStreams,
+      ObjectProvider<TutorialResponseCache> responseCache) {
     this.tutorialService = tutorialService;
+    this.tutorialAsyncService = tutorialAsyncService;
     this.tutorialMapper = tutorialMapper;
+    this.objectMapper = objectMapper;
+    this.changeTracker = changeTracker;
+    this.titleSuggester = titleSuggester;
+    this.meterRegistry = meterRegistry;
+    this.messageConverters = messageConverters;
+    this.writeCoalescer = writeCoalescer.getIfAvailable();
+    this.changeStreams = changeStreams;
+    this.responseCache = responseCache.getIfAvailable();
   }
 
+  /**
+   * Header carrying the cursor of the next page when tutorials are retrieved page by page.
+   */
+  static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+  /** Page size used if a cursor is given without a limit. */
+  private static final int DEFAULT_PAGE_SIZE = 100;
+
+  /** Upper bound for the page size requested by a client. */
+  private static final int MAX_PAGE_SIZE = 1000;
+
+  /** Number of results returned by a ranked search if no limit is given. */
+  private static final int DEFAULT_SEARCH_LIMIT = 10;
+
+  /** Upper bound for the number of results of a ranked search. */
+  private static final int MAX_SEARCH_LIMIT = 100;
+
+  /** Number of suggestions returned if no limit is given. */
+  private static final int DEFAULT_SUGGEST_LIMIT = 10;
+
+  /** Upper bound for the number of suggestions. */
+  private static final int MAX_SUGGEST_LIMIT = 100;
+
+  /** Request header stating preferences for the response (RFC 7240). */
+  static final String PREFER_HEADER = "Prefer";
+
+  /** Value of the {@code Prefer} header asking for a response without body (RFC 7240). */
+  static final String RETURN_MINIMAL = "return=minimal";
+
+  /** Header confirming that a preference of the {@code Prefer} header has been applied (RFC 7240). */
+  static final String PREFERENCE_APPLIED_HEADER = "Preference-Applied";
+
+  /** Number of tutorials persisted per transaction by the bulk create endpoint. */
+  private static final int BATCH_CHUNK_SIZE = 500;
+
+  /** Upper bound for the number of IDs of a lookup of tutorials by IDs. */
+  private static final int MAX_LOOKUP_IDS = 10000;
+
   /**
    * Retrieves tutorials filtered by optional title or description.
    * If neither is specified, returns all tutorials.
+   * <p>
+   * If {@code after} or {@code limit} is given, the tutorials are returned page by page ordered by ID.
+   * The cursor of the next page is returned in the {@value #NEXT_CURSOR_HEADER} header as long as
+   * further tutorials exist.
+   * <p>
+   * The response carries an ETag derived from the generation of the tutorial data. If the client
+   * sends it back in {@code If-None-Match} and no tutorial has changed since, 304 is returned
+   * without querying the database.
+   * <p>
+   * The tutorials are read asynchronously, the servlet thread is released while the database is queried.
+   * The queries project the tutorials directly into DTOs, without loading entities.
+   * <p>
+   * Besides JSON, the list is returned as CBOR or Smile if requested via {@code Accept}.
+   * <p>
+   * If the client only needs to know whether tutorials exist and sends {@code Prefer: return=minimal},
+   * the tutorials are not loaded: an exists query stopping at the first row decides between 200 without
+   * body and 204. The applied preference is confirmed in the {@value #PREFERENCE_APPLIED_HEADER} header.
+   * The response varies by {@code Prefer}, and the response without body has an ETag of its own, so caches
+   * never answer a request for the list with it.
+   * <p>
+   * If the {@link TutorialResponseCache} is enabled, the encoded response is taken from it.
    *
    * @param title optional title filter
    * @param description optional description filter
-   * @return list of matching {@link TutorialDto} or 204 if none found
+   * @param after optional cursor of the page to retrieve, as returned for the previous page
+   * @param limit optional maximum number of tutorials in the page
+   * @param prefer optional {@code Prefer} header, {@value #RETURN_MINIMAL} omits the body
+   * @param webRequest the current request, used for evaluating {@code If-None-Match}
+   * @return list of matching {@link TutorialDto}, 204 if none found or 304 if not modified
    */
   @Operation(
       summary = "View Tutorials",
-      description = "Filters Tutorials by title or description. If no title or description defined, returns all tutorials.",
+      description = "Filters Tutorials by title or description. If no title or description defined, returns all tutorials. "
+          + "If a cursor or limit is given, returns one page and the cursor of the next page in the "
+          + NEXT_CURSOR_HEADER + " header.",
       tags = { "tutorials", "get", "filter" })
-  @ApiResponse(responseCode = "200", content = {@Content(schema = @Schema(implementation = TutorialDto.class), mediaType = "application/json")})
+  @ApiResponse(responseCode = "200", content = {
+      @Content(schema = @Schema(implementation = TutorialDto.class), mediaType = "application/json"),
+      @Content(schema = @Schema(implementation = TutorialDto.class), mediaType = MediaType.APPLICATION_CBOR_VALUE),
+      @Content(schema = @Schema(implementation = TutorialDto.class), mediaType = MessageConverterConfig.APPLICATION_SMILE_VALUE)})
   @ApiResponse(responseCode = "204", description = "No Tutorials found")
+  @ApiResponse(responseCode = "304", description = "Tutorials not modified")
+  @ApiResponse(responseCode = "400", description = "Invalid cursor or limit")
   @ApiResponse(responseCode = "500", description = "Internal server error")
   @GetMapping("")
-  public ResponseEntity<List<TutorialDto>> getTutorials(@RequestParam(required = false) String title,
-      @RequestParam(required = false) String description) {
+  public CompletableFuture<ResponseEntity<?>> getTutorials(
+      @RequestParam(required = false) String title,
+      @RequestParam(required = false) String description,
+      @RequestParam(required = false) String after,
+      @RequestParam(required = false) Integer limit,
+      @RequestHeader(value = PREFER_HEADER, required = false) String prefer,
+      WebRequest webRequest) {
+    MediaType mediaType = representation(webRequest);
+    addVary(webRequest, PREFER_HEADER);
+    boolean minimal = after == null && limit == null && isReturnMinimal(prefer);
+    String etag = minimal
+        ? TutorialETag.ofMinimalList(changeTracker.getEpoch(), changeTracker.getGeneration())
+        : TutorialETag.ofList(changeTracker.getEpoch(), changeTracker.getGeneration(), mediaType);
+    if (webRequest.checkNotModified(etag)) {
+      return null;
+    }
+    if (after != null || limit != null) {
+      return getTutorialPage(title, description, after, limit, mediaType);
+    }
+    if (minimal) {
+      return tutorialAsyncService.existsTutorialsAsync(title, description)
+          .<ResponseEntity<?>>thenApply(exists -> ResponseEntity.status(exists ? HttpStatus.OK : HttpStatus.NO_CONTENT)
+              .header(PREFERENCE_APPLIED_HEADER, RETURN_MINIMAL)
+              .build())
+          .exceptionally(this::internalServerError);
+    }
+    if (responseCache != null && mediaType != null) {
+      return responseCache.getTutorials(title, description, -1L, 0, mediaType)
+          .exceptionally(this::internalServerError);
+    }
+    CompletableFuture<List<TutorialDto>> tutorials;
+    if (StringUtils.isNotEmpty(title)) {
+      tutorials = tutorialAsyncService.findByTitleContainingAsync(title);
+    } else if (StringUtils.isNotEmpty(description)) {
+      tutorials = tutorialAsyncService.findByDescriptionContainingAsync(description);
+    } else {
+      tutorials = tutorialAsyncService.getAllTutorialsAsync();
+    }
+
+    return tutorials.<ResponseEntity<?>>thenApply(dtos -> {
+      if (dtos.isEmpty()) {
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+      }
+      return new ResponseEntity<>(dtos, representationHeaders(mediaType), HttpStatus.OK);
+    }).exceptionally(this::internalServerError);
+  }
+
+  /**
+   * Retrieves one page of tutorials filtered by optional title or description.
+   *
+   * @param title optional title filter
+   * @param description optional description filter
+   * @param after optional cursor of the page, {@code null} for the first page
+   * @param limit optional page size, {@value #DEFAULT_PAGE_SIZE} if not given
+   * @param mediaType the negotiated representation, {@code null} if the client accepts none
+   * @return the page of {@link TutorialDto}, 204 if the page is empty or 400 for an invalid cursor or limit
+   */
+  private CompletableFuture<ResponseEntity<?>> getTutorialPage(String title, String description,
+      String after, Integer limit, MediaType mediaType) {
+    long afterId;
     try {
-      List<Tutorial> tutorials;
-      if (StringUtils.isNotEmpty(title)) {
-        tutorials = tutorialService.findByTitleContaining(title);
-      } else if (StringUtils.isNotEmpty(description)) {
-        tutorials = tutorialService.findByDescriptionContaining(description);
-      } else {
-        tutorials = tutorialService.getAllTutorials();
+      afterId = StringUtils.isEmpty(after) ? 0L : TutorialCursor.decode(after);
+    } catch (IllegalArgumentException e) {
+      return CompletableFuture.completedFuture(new ResponseEntity<>(HttpStatus.BAD_REQUEST));
+    }
+    int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+    if (pageSize < 1) {
+      return CompletableFuture.completedFuture(new ResponseEntity<>(HttpStatus.BAD_REQUEST));
+    }
+    if (responseCache != null && mediaType != null) {
+      return responseCache.getTutorials(title, description, afterId, pageSize, mediaType)
+          .exceptionally(this::internalServerError);
+    }
+
+    CompletableFuture<Window<TutorialDto>> page;
+    if (StringUtils.isNotEmpty(title)) {
+      page = tutorialAsyncService.findByTitleContainingAfterAsync(title, afterId, pageSize);
+    } else if (StringUtils.isNotEmpty(description)) {
+      page = tutorialAsyncService.findByDescriptionContainingAfterAsync(description, afterId, pageSize);
+    } else {
+      page = tutorialAsyncService.getTutorialsAfterAsync(afterId, pageSize);
+    }
+
+    return page.<ResponseEntity<?>>thenApply(window -> {
+      if (window.isEmpty()) {
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
       }
 
-      if (tutorials.isEmpty()) {
+      HttpHeaders headers = representationHeaders(mediaType);
+      if (window.hasNext()) {
+        List<TutorialDto> content = window.getContent();
+        headers.set(NEXT_CURSOR_HEADER, TutorialCursor.encode(content.get(content.size() - 1).getId()));
+      }
+      return new ResponseEntity<>(window.getContent(), headers, HttpStatus.OK);
+    }).exceptionally(this::internalServerError);
+  }
+
+  /**
+   * Counts tutorials filtered by optional title or description, using the same filters as the list
+   * of tutorials. The tutorials are counted by the database without being loaded.
+   * <p>
+   * The response carries the ETag of the list of tutorials; 304 is returned without querying the
+   * database if no tutorial has changed since.
+   *
+   * @param title optional title filter
+   * @param description optional description filter
+   * @param webRequest the current request, used for evaluating {@code If-None-Match}
+   * @return the number of matching tutorials or 304 if not modified
+   */
+  @Operation(
+      summary = "Count Tutorials",
+      description = "Counts Tutorials filtered by title or description. If no title or description defined, "
+          + "counts all tutorials.",
+      tags = { "tutorials", "get", "filter" })
+  @ApiResponse(responseCode = "200", content = {@Content(schema = @Schema(implementation = Long.class), mediaType = "application/json")})
+  @ApiResponse(responseCode = "304", description = "Tutorials not modified")
+  @ApiResponse(responseCode = "500", description = "Internal server error")
+  @GetMapping("/count")
+  public CompletableFuture<ResponseEntity<Long>> countTutorials(
+      @RequestParam(required = false) String title,
+      @RequestParam(required = false) String description,
+      WebRequest webRequest) {
+    MediaType mediaType = representation(webRequest);
+    String etag = TutorialETag.ofList(changeTracker.getEpoch(), changeTracker.getGeneration(), mediaType);
+    if (webRequest.checkNotModified(etag)) {
+      return null;
+    }
+    return tutorialAsyncService.countTutorialsAsync(title, description)
+        .thenApply(count -> new ResponseEntity<>(count, representationHeaders(mediaType), HttpStatus.OK))
+        .exceptionally(this::internalServerError);
+  }
+
+  /**
+   * Searches tutorials whose title or description contains each term of the query and returns the
+   * most relevant ones.
+   * <p>
+   * Title matches rank higher than description matches, titles and words starting with a term rank higher
+   * than other matches. Only the best {@code limit} tutorials are kept while ranking, so the latency does not
+   * depend on sorting or serializing all matches. The response carries the list ETag like {@code getTutorials}
+   * and is taken from the {@link TutorialResponseCache} if it is enabled.
+   *
+   * @param q the search terms separated by whitespace
+   * @param limit optional maximum number of results, {@value #DEFAULT_SEARCH_LIMIT} if not given
+   * @param webRequest the current request, used for evaluating {@code If-None-Match}
+   * @return the best matching tutorials, most relevant first; 204 if none found or 400 for an invalid query or limit
+   */
+  @Operation(
+      summary = "Search Tutorials",
+      description = "Returns the tutorials matching all search terms in title or description, most relevant first.",
+      tags = { "tutorials", "get", "search" })
+  @ApiResponse(responseCode = "200", content = {@Content(schema = @Schema(implementation = TutorialSearchResultDto.class), mediaType = "application/json")})
+  @ApiResponse(responseCode = "204", description = "No Tutorials found")
+  @ApiResponse(responseCode = "304", description = "Tutorials not modified")
+  @ApiResponse(responseCode = "400", description = "Invalid query or limit")
+  @ApiResponse(responseCode = "500", description = "Internal server error")
+  @GetMapping("/search")
+  public CompletableFuture<ResponseEntity<?>> searchTutorials(@RequestParam String q,
+      @RequestParam(required = false) Integer limit,
+      WebRequest webRequest) {
+    int resultSize = limit == null ? DEFAULT_SEARCH_LIMIT : Math.min(limit, MAX_SEARCH_LIMIT);
+    if (StringUtils.isBlank(q) || resultSize < 1) {
+      return CompletableFuture.completedFuture(new ResponseEntity<>(HttpStatus.BAD_REQUEST));
+    }
+    MediaType mediaType = representation(webRequest);
+    String etag = TutorialETag.ofList(changeTracker.getEpoch(), changeTracker.getGeneration(), mediaType);
+    if (webRequest.checkNotModified(etag)) {
+      return null;
+    }
+
+    if (responseCache != null && mediaType != null) {
+      return responseCache.search(q, resultSize, mediaType).exceptionally(this::internalServerError);
+    }
+
+    return tutorialAsyncService.searchAsync(q, resultSize).<ResponseEntity<?>>thenApply(results -> {
+      if (results.isEmpty()) {
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
       }
+      return new ResponseEntity<>(results, representationHeaders(mediaType), HttpStatus.OK);
+    }).exceptionally(this::internalServerError);
+  }
 
-      List<TutorialDto> dtos = tutorialMapper.tutorialsToDtos(tutorials);
-      return new ResponseEntity<>(dtos, HttpStatus.OK);
-    } catch (Exception e) {
-      return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+  /**
+   * Suggests tutorials whose title starts with the given prefix, for autocompletion while typing.
+   * <p>
+   * The suggestions are answered from an in-memory index of the titles and never query the database.
+   * Prefix and titles are compared ignoring case and repeated whitespace.
+   *
+   * @param prefix the typed prefix of the title
+   * @param limit optional maximum number of suggestions, {@value #DEFAULT_SUGGEST_LIMIT} if not given
+   * @return the suggestions ordered by title; 204 if none found, 400 for an invalid prefix or limit,
+   *     or 503 while the index is being built
+   */
+  @Operation(
+      summary = "Suggest Tutorials",
+      description = "Returns tutorials whose title starts with the given prefix, ordered by title.",
+      tags = { "tutorials", "get", "search" })
+  @ApiResponse(responseCode = "200", content = {@Content(schema = @Schema(implementation = TutorialSuggestionDto.class), mediaType = "application/json")})
+  @ApiResponse(responseCode = "204", description = "No Tutorials found")
+  @ApiResponse(responseCode = "400", description = "Invalid prefix or limit")
+  @ApiResponse(responseCode = "503", description = "Suggestions not available yet")
+  @GetMapping("/suggest")
+  public ResponseEntity<List<TutorialSuggestionDto>> suggestTutorials(@RequestParam String prefix,
+      @RequestParam(required = false) Integer limit) {
+    int resultSize = limit == null ? DEFAULT_SUGGEST_LIMIT : Math.min(limit, MAX_SUGGEST_LIMIT);
+    if (StringUtils.isBlank(prefix) || resultSize < 1) {
+      return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+    }
+    if (!titleSuggester.isReady()) {
+      return new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE);
     }
+
+    List<TutorialSuggestionDto> suggestions = titleSuggester.suggest(prefix, resultSize);
+    if (suggestions.isEmpty()) {
+      return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+    return new ResponseEntity<>(suggestions, HttpStatus.OK);
+  }
+
+  /**
+   * Exports all tutorials as newline delimited JSON, one tutorial per line, ordered by ID.
+   * <p>
+   * The tutorials are streamed from the database directly into the response,
+   * so the export runs with constant memory regardless of the number of tutorials.
+   * Without any tutorials, the body is empty.
+   *
+   * @return the streamed response body
+   */
+  @Operation(
+      summary = "Export all Tutorials",
+      description = "Streams all tutorials as newline delimited JSON (one tutorial per line).",
+      tags = { "tutorials", "get", "export" })
+  @ApiResponse(responseCode = "200", content = {@Content(schema = @Schema(implementation = TutorialDto.class), mediaType = APPLICATION_NDJSON_VALUE)})
+  @ApiResponse(responseCode = "500", description = "Internal server error")
+  @GetMapping(value = "/export", produces = APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> exportTutorials() {
+    StreamingResponseBody body = outputStream -> {
+      AtomicBoolean exported = new AtomicBoolean();
+      try (SequenceWriter writer = objectMapper.writerFor(TutorialDto.class)
+          .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+          .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+          .withRootValueSeparator("\n")
+          .writeValues(outputStream)) {
+        tutorialService.exportTutorials(tutorial -> {
+          try {
+            writer.write(tutorialMapper.tutorialToDto(tutorial));
+            exported.set(true);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+      } catch (ServiceException e) {
+        recordError(e);
+        throw new IOException("Export of tutorials failed", e);
+      }
+      if (exported.get()) {
+        outputStream.write('\n');
+      }
+    };
+    return ResponseEntity.ok().contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE)).body(body);
+  }
+
+  /**
+   * Streams the changes of the tutorials as Server-Sent Events.
+   * <p>
+   * Every create, update and delete made through the service is sent as an event named after the kind of
+   * change ({@code created}, {@code updated}, {@code deleted}, {@code cleared}) with the change as JSON data.
+   * A client reconnecting with {@code Last-Event-ID} first receives the changes it has missed, as long as
+   * they are still kept in memory. If changes have been skipped, an
+   * {@value TutorialChangeStreams#OVERFLOW_EVENT} event is sent and the client has to reload the tutorials.
+   *
+   * @param lastEventId optional ID of the last event received before reconnecting
+   * @return the stream of change events
+   */
+  @Operation(
+      summary = "Stream Tutorial changes",
+      description = "Streams created, updated and deleted tutorials as Server-Sent Events. Reconnecting clients "
+          + "resume after the Last-Event-ID; an overflow event signals skipped changes.",
+      tags = { "tutorials", "get", "changes" })
+  @ApiResponse(responseCode = "200", content = {@Content(schema = @Schema(implementation = TutorialChangeDto.class), mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)})
+  @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter streamChanges(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+    return changeStreams.subscribe(lastEventId);
+  }
+
+  /**
+   * Retrieves the tutorials changed and deleted since a revision, for clients keeping a local copy.
+   * <p>
+   * A client starts with {@code since=0} and passes the returned {@code revision} and {@code afterId} as
+   * {@code since} and {@code afterId} of the next request; it requests again right away as long as
+   * {@code hasMore} is set. Changes are read with one query on the {@code (revision, id)} index, and deleted
+   * tutorials are reported by their ID. A revision affecting more tutorials than fit on a page, e.g. a bulk
+   * deletion, continues on the next page after {@code afterId}.
+   *
+   * @param since the revision the client has already caught up to
+   * @param afterId optional last ID read of revision {@code since}, as returned for the previous page
+   * @param limit optional maximum number of tutorials, {@value #DEFAULT_PAGE_SIZE} if not given
+   * @return the changes since the revision or 400 for an invalid revision, ID or limit
+   */
+  @Operation(
+      summary = "Tutorial changes since a revision",
+      description = "Returns the tutorials changed and the IDs of the tutorials deleted since the given revision, "
+          + "together with the revision to pass as since of the next request.",
+      tags = { "tutorials", "get", "changes" })
+  @ApiResponse(responseCode = "200", content = {@Content(schema = @Schema(implementation = TutorialDeltaDto.class), mediaType = "application/json")})
+  @ApiResponse(responseCode = "400", description = "Invalid revision, ID or limit")
+  @ApiResponse(responseCode = "500", description = "Internal server error")
+  @GetMapping("/delta")
+  public CompletableFuture<ResponseEntity<TutorialDeltaDto>> getTutorialDelta(@RequestParam long since,
+      @RequestParam(required = false) Long afterId,
+      @RequestParam(required = false) Integer limit) {
+    int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+    if (since < 0 || (afterId != null && afterId < 0) || pageSize < 1) {
+      return CompletableFuture.completedFuture(new ResponseEntity<>(HttpStatus.BAD_REQUEST));
+    }
+    return tutorialAsyncService.getChangesSinceAsync(since, afterId, pageSize)
+        .thenApply(delta -> new ResponseEntity<>(delta, HttpStatus.OK))
+        .exceptionally(this::internalServerError);
   }
 
   /**
    * Retrieves a tutorial by its ID.
+   * <p>
+   * The response carries the ETag of the tutorial. If the client sends it back in {@code If-None-Match}
+   * and the tutorial has not changed, 304 is returned without mapping or serializing the tutorial.
+   * <p>
+   * The tutorial is read asynchronously, the servlet thread is released while the database is queried.
+   * The conditional headers are read before, since the request must not be accessed from the executor.
    *
    * @param id the tutorial ID
-   * @return the tutorial if found, or 404 if not
+   * @param webRequest the current request, used for evaluating {@code If-None-Match}
+   * @return the tutorial if found, 304 if not modified, or 404 if not found
    */
   @Operation(
       summary = "Find a Tutorial by Id",
       description = "Returns a single tutorial by ID.",
       tags = { "tutorials", "get" })
   @ApiResponse(responseCode = "200", content = {@Content(schema = @Schema(implementation = TutorialDto.class))})
+  @ApiResponse(responseCode = "304", description = "Tutorial not modified")
   @ApiResponse(responseCode = "404", description = "Tutorial not found")
   @ApiResponse(responseCode = "500", description = "Internal server error")
   @GetMapping("/{id}")
-  public ResponseEntity<TutorialDto> getTutorialById(@PathVariable("id") long id) {
-    Optional<Tutorial> tutorial = tutorialService.getTutorialById(id);
-    return tutorial.map(value -> new ResponseEntity<>(tutorialMapper.tutorialToDto(value), HttpStatus.OK))
-        .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+  public CompletableFuture<ResponseEntity<TutorialDto>> getTutorialById(@PathVariable("id") long id,
+      WebRequest webRequest) {
+    String[] ifNoneMatch = webRequest.getHeaderValues(HttpHeaders.IF_NONE_MATCH);
+    MediaType mediaType = representation(webRequest);
+    return tutorialAsyncService.getTutorialByIdAsync(id)
+        .thenApply(tutorial -> {
+          if (tutorial.isEmpty()) {
+            return new ResponseEntity<TutorialDto>(HttpStatus.NOT_FOUND);
+          }
+          String etag = TutorialETag.of(tutorial.get(), mediaType);
+          if (TutorialETag.matchesAny(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).<TutorialDto>build();
+          }
+          return ResponseEntity.ok()
+              .headers(representationHeaders(mediaType))
+              .eTag(etag)
+              .body(tutorialMapper.tutorialToDto(tutorial.get()));
+        })
+        .exceptionally(this::internalServerError);
+  }
+
+  /**
+   * Retrieves the tutorials with the given IDs in one request, e.g. {@code ?ids=1,2,3}.
+   * <p>
+   * The tutorials are taken from the cache of single tutorials where possible, the others are loaded with
+   * {@code IN} based queries instead of one query per ID. For long lists, use {@link #lookupTutorials(List)}.
+   *
+   * @param ids the IDs of the tutorials, at most {@value #MAX_LOOKUP_IDS}
+   * @return one result per ID in request order, marking the IDs without tutorial as not found;
+   *     400 if no or too many IDs are given
+   */
+  @Operation(
+      summary = "Find Tutorials by Ids",
+      description = "Returns one result per requested ID in request order, containing the tutorial or marking "
+          + "the ID as not found.",
+      tags = { "tutorials", "get", "batch" })
+  @ApiResponse(responseCode = "200", content = {@Content(schema = @Schema(implementation = TutorialLookupResultDto.class), mediaType = "application/json")})
+  @ApiResponse(responseCode = "400", description = "No or too many IDs")
+  @ApiResponse(responseCode = "500", description = "Internal server error")
+  @GetMapping(value = "", params = "ids")
+  public CompletableFuture<ResponseEntity<List<TutorialLookupResultDto>>> getTutorialsByIds(
+      @RequestParam List<Long> ids) {
+    return lookupTutorials(ids);
+  }
+
+  /**
+   * Retrieves the tutorials with the IDs given as JSON array in the request body, for lists too long
+   * for a query parameter. Otherwise like {@link #getTutorialsByIds(List)}.
+   *
+   * @param ids the IDs of the tutorials, at most {@value #MAX_LOOKUP_IDS}
+   * @return one result per ID in request order, marking the IDs without tutorial as not found;
+   *     400 if no or too many IDs are given
+   */
+  @Operation(
+      summary = "Find Tutorials by Ids (request body)",
+      description = "Like GET with ids, but takes the IDs as JSON array in the request body.",
+      tags = { "tutorials", "post", "batch" })
+  @ApiResponse(responseCode = "200", content = {@Content(schema = @Schema(implementation = TutorialLookupResultDto.class), mediaType = "application/json")})
+  @ApiResponse(responseCode = "400", description = "No or too many IDs")
+  @ApiResponse(responseCode = "500", description = "Internal server error")
+  @PostMapping(value = "/lookup", consumes = MediaType.APPLICATION_JSON_VALUE)
+  public CompletableFuture<ResponseEntity<List<TutorialLookupResultDto>>> lookupTutorials(
+      @RequestBody List<Long> ids) {
+    if (ids.isEmpty() || ids.size() > MAX_LOOKUP_IDS || ids.contains(null)) {
+      return CompletableFuture.completedFuture(new ResponseEntity<>(HttpStatus.BAD_REQUEST));
+    }
+    return tutorialAsyncService.getTutorialsByIdsAsync(ids)
+        .thenApply(tutorials -> {
+          List<TutorialLookupResultDto> results = new ArrayList<>(ids.size());
+          for (int i = 0; i < ids.size(); i++) {
+            Optional<Tutorial> tutorial = tutorials.get(i);
+            results.add(TutorialLookupResultDto.builder()
+                .id(ids.get(i))
+                .status(tutorial.isPresent()
+                    ? TutorialLookupResultDto.Status.FOUND : TutorialLookupResultDto.Status.NOT_FOUND)
+                .tutorial(tutorial.map(tutorialMapper::tutorialToDto).orElse(null))
+                .build());
+          }
+          return new ResponseEntity<>(results, HttpStatus.OK);
+        })
+        .exceptionally(this::internalServerError);
+  }
+
+  /**
+   * Checks whether a tutorial exists, without loading or serializing it.
+   * <p>
+   * Without this mapping, {@code HEAD} would be answered by {@link #getTutorialById(long, WebRequest)},
+   * reading the whole tutorial only to discard the body.
+   *
+   * @param id the tutorial ID
+   * @return 200 if the tutorial exists, 404 otherwise
+   */
+  @Operation(
+      summary = "Check a Tutorial by Id",
+      description = "Checks whether a tutorial with the given ID exists.",
+      tags = { "tutorials", "head" })
+  @ApiResponse(responseCode = "200", description = "Tutorial exists")
+  @ApiResponse(responseCode = "404", description = "Tutorial not found")
+  @ApiResponse(responseCode = "500", description = "Internal server error")
+  @RequestMapping(value = "/{id}", method = RequestMethod.HEAD)
+  public CompletableFuture<ResponseEntity<Void>> headTutorialById(@PathVariable("id") long id) {
+    return tutorialAsyncService.existsTutorialByIdAsync(id)
+        .thenApply(exists -> new ResponseEntity<Void>(exists ? HttpStatus.OK : HttpStatus.NOT_FOUND))
+        .exceptionally(this::internalServerError);
   }
 
   /**
    * Creates a new tutorial. If the request body is null, an empty tutorial is created.
+   * <p>
+   * If write coalescing is enabled, the tutorial is created together with concurrently posted ones
+   * in a group commit of the {@link TutorialWriteCoalescer}; the request waits for that commit at most
+   * for the timeout of the coalescer and fails with 500 afterwards. A timed-out tutorial is withdrawn
+   * from the coalescer, so retrying the request does not create it twice.
    *
    * @param dto the tutorial data to create
-   * @return the created tutorial
+   * @return the created tutorial, or 500 on error or timeout
    */
   @Operation(
       summary = "Create a new Tutorial",
@@ -122,14 +692,187 @@ public class TutorialController {
   public ResponseEntity<TutorialDto> createTutorial(@RequestBody(required = false) TutorialDto dto) {
     try {
       Tutorial tutorial = tutorialMapper.dtoToTutorial(dto);
-      Tutorial newTutorial = tutorialService.createTutorial(tutorial);
+      Tutorial newTutorial = writeCoalescer != null
+          ? createCoalesced(tutorial)
+          : tutorialService.createTutorial(tutorial);
       TutorialDto newDto = tutorialMapper.tutorialToDto(newTutorial);
       return new ResponseEntity<>(newDto, HttpStatus.CREATED);
     } catch (Exception e) {
-      return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+      return internalServerError(e);
     }
   }
 
+  /**
+   * Creates a tutorial through the {@link TutorialWriteCoalescer} and waits at most for its timeout.
+   * On timeout the future is cancelled, so the tutorial is not created by a later group commit;
+   * if it has been created in the meantime, it is returned.
+   *
+   * @param tutorial the tutorial data to create
+   * @return the saved tutorial
+   * @throws Exception if the creation fails or times out
+   */
+  private Tutorial createCoalesced(Tutorial tutorial) throws Exception {
+    CompletableFuture<Tutorial> created = writeCoalescer.createTutorial(tutorial);
+    try {
+      return created.get(writeCoalescer.getTimeout().toNanos(), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      if (created.cancel(false)) {
+        throw e;
+      }
+      return created.get();
+    }
+  }
+
+  /**
+   * Creates many tutorials from a JSON array or a stream of JSON objects (e.g. newline delimited JSON).
+   * The tutorials may also be sent as CBOR or Smile, as an array or a sequence of objects.
+   * <p>
+   * The request body is parsed incrementally and the tutorials are persisted in chunks of
+   * {@value #BATCH_CHUNK_SIZE}, each chunk in its own transaction using JDBC batch inserts.
+   * If a chunk fails, its tutorials are created one by one to report the failing ones.
+   * Parsing stops at the first malformed tutorial; tutorials of earlier chunks stay created.
+   *
+   * @param request the request providing the body
+   * @return the per-tutorial results in request order; 201 if all tutorials have been created, otherwise 207
+   */
+  @Operation(
+      summary = "Create many Tutorials",
+      description = "Creates tutorials from a JSON array, newline delimited JSON, CBOR or Smile and reports the "
+          + "result per tutorial.",
+      tags = { "tutorials", "post", "batch" })
+  @ApiResponse(responseCode = "201", description = "All tutorials successfully created",
+      content = {@Content(schema = @Schema(implementation = TutorialBatchResultDto.class))})
+  @ApiResponse(responseCode = "207", description = "Some tutorials could not be created",
+      content = {@Content(schema = @Schema(implementation = TutorialBatchResultDto.class))})
+  @ApiResponse(responseCode = "500", description = "Internal server error")
+  @PostMapping(value = "/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_NDJSON_VALUE,
+      MediaType.APPLICATION_CBOR_VALUE, MessageConverterConfig.APPLICATION_SMILE_VALUE})
+  public ResponseEntity<List<TutorialBatchResultDto>> createTutorials(HttpServletRequest request) {
+    List<TutorialBatchResultDto> results = new ArrayList<>();
+    List<Tutorial> chunk = new ArrayList<>(BATCH_CHUNK_SIZE);
+    try (MappingIterator<TutorialDto> dtos = objectMapperFor(request.getContentType()).readerFor(TutorialDto.class)
+        .readValues(request.getInputStream())) {
+      while (dtos.hasNextValue()) {
+        chunk.add(tutorialMapper.dtoToTutorial(dtos.nextValue()));
+        if (chunk.size() == BATCH_CHUNK_SIZE) {
+          createChunk(chunk, results);
+        }
+      }
+      createChunk(chunk, results);
+    } catch (IOException e) {
+      createChunk(chunk, results);
+      results.add(TutorialBatchResultDto.builder()
+          .index(results.size())
+          .status(TutorialBatchResultDto.Status.FAILED)
+          .error("Malformed tutorial: " + e.getMessage())
+          .build());
+    } catch (Exception e) {
+      return internalServerError(e);
+    }
+
+    boolean allCreated = results.stream()
+        .allMatch(result -> result.getStatus() == TutorialBatchResultDto.Status.CREATED);
+    return new ResponseEntity<>(results, allCreated ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS);
+  }
+
+  /**
+   * Selects the object mapper reading a request body of the given content type.
+   *
+   * @param contentType the content type of the request
+   * @return the object mapper of the Jackson converter reading the content type, the JSON mapper otherwise
+   */
+  private ObjectMapper objectMapperFor(String contentType) {
+    MediaType mediaType = MediaType.parseMediaType(contentType);
+    for (HttpMessageConverter<?> converter : messageConverters.getConverters()) {
+      if (converter instanceof AbstractJackson2HttpMessageConverter jacksonConverter
+          && jacksonConverter.canRead(TutorialDto.class, mediaType)) {
+        return jacksonConverter.getObjectMapper();
+      }
+    }
+    return objectMapper;
+  }
+
+  /**
+   * Determines the representation negotiated via {@code Accept} and marks the response as varying by
+   * {@code Accept}, also if it is answered with 304, so shared caches keep the representations apart.
+   *
+   * @param webRequest the current request
+   * @return JSON, CBOR or Smile, or {@code null} if the client accepts none of them, which Spring MVC rejects
+   *     with 406
+   */
+  private static MediaType representation(WebRequest webRequest) {
+    addVary(webRequest, HttpHeaders.ACCEPT);
+    return TutorialMediaTypes.negotiate(webRequest.getHeader(HttpHeaders.ACCEPT));
+  }
+
+  /**
+   * Marks the response as varying by a request header, also if it is answered with 304.
+   *
+   * @param webRequest the current request
+   * @param header the name of the request header
+   */
+  private static void addVary(WebRequest webRequest, String header) {
+    if (webRequest instanceof NativeWebRequest nativeRequest) {
+      HttpServletResponse response = nativeRequest.getNativeResponse(HttpServletResponse.class);
+      if (response != null) {
+        response.addHeader(HttpHeaders.VARY, header);
+      }
+    }
+  }
+
+  /**
+   * Creates the headers of a response in the negotiated representation. The content type is preset, so the
+   * body is written in the representation its ETag has been computed for.
+   *
+   * @param mediaType the negotiated representation, {@code null} if the client accepts none
+   * @return the headers
+   */
+  private static HttpHeaders representationHeaders(MediaType mediaType) {
+    HttpHeaders headers = new HttpHeaders();
+    if (mediaType != null) {
+      headers.setContentType(mediaType);
+    }
+    return headers;
+  }
+
+  /**
+   * Creates a chunk of tutorials in one transaction and appends the results.
+   * If the transaction fails, the tutorials are created one by one to find the failing ones.
+   *
+   * @param chunk the tutorials to create; cleared afterwards
+   * @param results the results to append to
+   */
+  private void createChunk(List<Tutorial> chunk, List<TutorialBatchResultDto> results) {
+    if (chunk.isEmpty()) {
+      return;
+    }
+    try {
+      for (Tutorial created : tutorialService.createTutorials(chunk)) {
+        results.add(TutorialBatchResultDto.builder()
+            .index(results.size())
+            .id(created.getId())
+            .status(TutorialBatchResultDto.Status.CREATED)
+            .build());
+      }
+    } catch (ServiceException chunkException) {
+      recordError(chunkException);
+      for (Tutorial tutorial : chunk) {
+        TutorialBatchResultDto.TutorialBatchResultDtoBuilder result = TutorialBatchResultDto.builder()
+            .index(results.size());
+        try {
+          result.id(tutorialService.createTutorial(tutorial).getId())
+              .status(TutorialBatchResultDto.Status.CREATED);
+        } catch (ServiceException e) {
+          recordError(e);
+          result.status(TutorialBatchResultDto.Status.FAILED)
+              .error(e.getMessage());
+        }
+        results.add(result.build());
+      }
+    }
+    chunk.clear();
+  }
+
   /**
    * Updates an existing tutorial by ID.
    *
@@ -153,7 +896,53 @@ public class TutorialController {
       return updated.map(value -> new ResponseEntity<>(tutorialMapper.tutorialToDto(value), HttpStatus.OK))
           .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
     } catch (Exception e) {
-      return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+      return internalServerError(e);
+    }
+  }
+
+  /**
+   * Partially updates a tutorial by ID. Only the fields present in the request body are changed.
+   * <p>
+   * If an {@code If-Match} header with the ETag of the tutorial is sent, the update only takes place
+   * if the tutorial has not been changed in the meantime; otherwise 412 is returned.
+   *
+   * @param id the ID of the tutorial to update
+   * @param dto the fields to change; {@code null} fields are kept
+   * @param ifMatch optional ETag the change is based on, or {@code *}
+   * @return the updated tutorial with its new ETag, 404 if not found or 412 if the precondition failed
+   */
+  @Operation(
+      summary = "Partially update a Tutorial by Id",
+      description = "Changes the given fields of a tutorial. Supports optimistic locking via If-Match.",
+      tags = { "tutorials", "patch" })
+  @ApiResponse(responseCode = "200", description = "Tutorial successfully updated",
+      content = {@Content(schema = @Schema(implementation = TutorialDto.class))})
+  @ApiResponse(responseCode = "404", description = "Tutorial not found")
+  @ApiResponse(responseCode = "412", description = "Tutorial has been changed in the meantime")
+  @ApiResponse(responseCode = "500", description = "Internal server error")
+  @PatchMapping("/{id}")
+  public ResponseEntity<TutorialDto> patchTutorial(@PathVariable("id") long id, @RequestBody TutorialDto dto,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+    Long expectedVersion = null;
+    if (ifMatch != null && !"*".equals(ifMatch.trim())) {
+      try {
+        expectedVersion = TutorialETag.parseVersion(ifMatch);
+      } catch (IllegalArgumentException e) {
+        return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED);
+      }
+    }
+
+    try {
+      Tutorial tutorial = tutorialMapper.dtoToTutorial(dto);
+      Optional<Tutorial> patched = tutorialService.patchTutorial(id, tutorial, expectedVersion);
+      return patched.map(value -> ResponseEntity.ok()
+              .eTag(TutorialETag.of(value))
+              .body(tutorialMapper.tutorialToDto(value)))
+          .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    } catch (VersionConflictException e) {
+      return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED);
+    } catch (Exception e) {
+      return internalServerError(e);
     }
   }
 
@@ -174,7 +963,29 @@ public class TutorialController {
       tutorialService.deleteAllTutorials();
       return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     } catch (Exception e) {
-      return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+      return internalServerError(e);
+    }
+  }
+
+  /**
+   * Deletes all tutorials with the given IDs using set-based statements.
+   *
+   * @param ids the IDs of the tutorials to delete
+   * @return HTTP 204 if successful, or 500 on error
+   */
+  @Operation(
+      summary = "Delete Tutorials by Ids",
+      description = "Deletes all tutorials with the specified IDs. Unknown IDs are ignored.",
+      tags = { "tutorials", "delete" })
+  @ApiResponse(responseCode = "204", description = "Tutorials successfully deleted")
+  @ApiResponse(responseCode = "500", description = "Internal server error")
+  @DeleteMapping(value = "", params = "ids")
+  public ResponseEntity<HttpStatus> deleteTutorials(@RequestParam List<Long> ids) {
+    try {
+      tutorialService.deleteTutorials(ids);
+      return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    } catch (Exception e) {
+      return internalServerError(e);
     }
   }
 
@@ -196,7 +1007,57 @@ public class TutorialController {
       tutorialService.deleteTutorial(id);
       return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     } catch (Exception e) {
-      return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+      return internalServerError(e);
+    }
+  }
+
+  /**
+   * Checks whether the {@code Prefer} header asks for a response without body.
+   *
+   * @param prefer the value of the {@code Prefer} header, may be {@code null}
+   * @return {@code true} if the preferences contain {@value #RETURN_MINIMAL}
+   */
+  private static boolean isReturnMinimal(String prefer) {
+    if (prefer == null) {
+      return false;
+    }
+    for (String preference : prefer.split(",")) {
+      if (RETURN_MINIMAL.equalsIgnoreCase(preference.strip())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Records an unexpected exception and creates the 500 response for it.
+   * Exceptions of asynchronous operations are unwrapped, so they are recorded like synchronous ones.
+   *
+   * @param e the exception causing the failure
+   * @param <T> the type of the response body
+   * @return the response with status 500
+   */
+  private <T> ResponseEntity<T> internalServerError(Throwable e) {
+    Throwable cause = e;
+    while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+      cause = cause.getCause();
     }
+    log.error("Request failed", cause);
+    recordError(cause);
+    return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+  }
+
+  /**
+   * Increments the {@value MetricsConfig#ERRORS_COUNTER} counter for an exception,
+   * tagged by the type of the exception and of its root cause.
+   *
+   * @param e the exception to record
+   */
+  private void recordError(Throwable e) {
+    Counter.builder(MetricsConfig.ERRORS_COUNTER)
+        .tag("exception", e.getClass().getSimpleName())
+        .tag("cause", ExceptionUtils.getRootCause(e).getClass().getSimpleName())
+        .register(meterRegistry)
+        .increment();
   }
 }
@@ -0,0 +1,45 @@
+package ipu.example.demo.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encodes and decodes the opaque cursors used for keyset pagination of tutorials.
+ * <p>
+ * A cursor wraps the ID of the last tutorial of a page. Clients must treat it as an opaque
+ * token and only pass it back via the {@code after} request parameter.
+ */
+final class TutorialCursor {
+
+  /** Prefix identifying the cursor format, allows changing the encoding later. */
+  private static final String PREFIX = "v1:";
+
+  private TutorialCursor() {
+  }
+
+  /**
+   * Encodes the ID of the last tutorial of a page into an opaque cursor.
+   *
+   * @param lastId the ID of the last tutorial of the page
+   * @return the URL safe cursor
+   */
+  static String encode(long lastId) {
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString((PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodes a cursor created by {@link #encode(long)}.
+   *
+   * @param cursor the cursor received from the client
+   * @return the ID after which the next page starts
+   * @throws IllegalArgumentException if the cursor is malformed
+   */
+  static long decode(String cursor) {
+    String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    if (!value.startsWith(PREFIX)) {
+      throw new IllegalArgumentException("Invalid cursor: " + cursor);
+    }
+    return Long.parseLong(value.substring(PREFIX.length()));
+  }
+}
@@ -0,0 +1,119 @@
+package ipu.example.demo.controller;
+
+import ipu.example.demo.model.Tutorial;
+import org.springframework.http.MediaType;
+
+/**
+ * Creates and parses the entity tags (ETags) of tutorial resources.
+ * <p>
+ * The ETag of a tutorial is its quoted version, e.g. {@code "3"}. It changes with every update
+ * of the tutorial and is used for conditional requests ({@code If-Match}, {@code If-None-Match}).
+ * The ETag of a list of tutorials is derived from the generation of the tutorial data,
+ * e.g. {@code "1f3a.42"}, and changes with every change of any tutorial.
+ * <p>
+ * Strong ETags identify a representation, so representations other than JSON append their media subtype,
+ * e.g. {@code "3-cbor"}; a client switching between JSON and CBOR never receives 304 for a cached body
+ * in the other format. The response without body answering {@code Prefer: return=minimal} is marked with
+ * {@code -minimal}, e.g. {@code "1f3a.42-minimal"}.
+ */
+final class TutorialETag {
+
+  private TutorialETag() {
+  }
+
+  /**
+   * Creates the strong ETag of the JSON representation of a tutorial.
+   *
+   * @param tutorial the tutorial
+   * @return the quoted version of the tutorial
+   */
+  static String of(Tutorial tutorial) {
+    return of(tutorial, MediaType.APPLICATION_JSON);
+  }
+
+  /**
+   * Creates the strong ETag of a representation of a tutorial.
+   *
+   * @param tutorial the tutorial
+   * @param mediaType the media type of the representation
+   * @return the quoted version of the tutorial and the representation
+   */
+  static String of(Tutorial tutorial, MediaType mediaType) {
+    return "\"" + tutorial.getVersion() + representation(mediaType) + "\"";
+  }
+
+  /**
+   * Creates the strong ETag of a representation of a list of tutorials.
+   *
+   * @param epoch the epoch of the application run
+   * @param generation the generation of the tutorial data the list has been read from
+   * @param mediaType the media type of the representation
+   * @return the quoted epoch, generation and representation
+   */
+  static String ofList(long epoch, long generation, MediaType mediaType) {
+    return "\"" + Long.toHexString(epoch) + "." + generation + representation(mediaType) + "\"";
+  }
+
+  /**
+   * Creates the strong ETag of the response without body confirming that a list of tutorials is not empty.
+   *
+   * @param epoch the epoch of the application run
+   * @param generation the generation of the tutorial data the existence has been checked for
+   * @return the quoted epoch and generation, marked as minimal
+   */
+  static String ofMinimalList(long epoch, long generation) {
+    return "\"" + Long.toHexString(epoch) + "." + generation + "-minimal\"";
+  }
+
+  /**
+   * Returns the part of an ETag identifying the representation.
+   *
+   * @param mediaType the media type of the representation, {@code null} if none is acceptable
+   * @return empty for JSON or {@code null}, otherwise {@code -} followed by the media subtype
+   */
+  private static String representation(MediaType mediaType) {
+    return mediaType == null || MediaType.APPLICATION_JSON.equalsTypeAndSubtype(mediaType)
+        ? "" : "-" + mediaType.getSubtype();
+  }
+
+  /**
+   * Checks whether an ETag matches one of the ETags of {@code If-None-Match} headers. The comparison is weak,
+   * i.e. {@code W/} prefixes are ignored, and {@code *} matches any ETag.
+   *
+   * @param ifNoneMatch the values of the {@code If-None-Match} headers, {@code null} if none has been sent
+   * @param etag the current ETag
+   * @return {@code true} if the client already has the current representation
+   */
+  static boolean matchesAny(String[] ifNoneMatch, String etag) {
+    if (ifNoneMatch == null) {
+      return false;
+    }
+    String opaqueTag = etag.startsWith("W/") ? etag.substring(2) : etag;
+    for (String header : ifNoneMatch) {
+      for (String candidate : header.split(",")) {
+        String value = candidate.trim();
+        if (value.equals("*") || (value.startsWith("W/") ? value.substring(2) : value).equals(opaqueTag)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Parses the version from a single strong ETag created by {@link #of(Tutorial, MediaType)}.
+   *
+   * @param etag the ETag sent by the client
+   * @return the version contained in the ETag
+   * @throws IllegalArgumentException if the value is not a strong ETag of a tutorial
+   */
+  static long parseVersion(String etag) {
+    String value = etag.trim();
+    if (value.length() < 3 || value.charAt(0) != '"' || value.charAt(value.length() - 1) != '"') {
+      throw new IllegalArgumentException("Not a strong ETag: " + etag);
+    }
+    String opaqueTag = value.substring(1, value.length() - 1);
+    int representation = opaqueTag.indexOf('-');
+    return Long.parseLong(representation < 0 ? opaqueTag : opaqueTag.substring(0, representation));
+  }
+}
@@ -0,0 +1,88 @@
+package ipu.example.demo.controller;
+
+import ipu.example.demo.config.MessageConverterConfig;
+import java.util.List;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+/**
+ * Media types the tutorial resources are represented in.
+ * <p>
+ * Besides JSON, tutorials are offered as CBOR and Smile. The representation is negotiated via {@code Accept},
+ * so ETags and cached responses have to distinguish it.
+ */
+final class TutorialMediaTypes {
+
+  /** Media type of Smile. */
+  static final MediaType APPLICATION_SMILE = MediaType.parseMediaType(MessageConverterConfig.APPLICATION_SMILE_VALUE);
+
+  /** Media types of the representations, in the order preferred for wildcards. */
+  static final List<MediaType> REPRESENTATIONS =
+      List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, APPLICATION_SMILE);
+
+  private TutorialMediaTypes() {
+  }
+
+  /**
+   * Determines the representation of a response from the {@code Accept} header.
+   * <p>
+   * Each representation gets the quality value of the most specific media range including it (RFC 9110,
+   * section 12.5.1); the representation with the highest quality is chosen, ties are decided by the order of
+   * {@link #REPRESENTATIONS}. A quality of {@code 0} marks a representation as not acceptable.
+   *
+   * @param accept the {@code Accept} header, {@code null} if not sent
+   * @return JSON, CBOR or Smile, or {@code null} if the client accepts none of them
+   */
+  static MediaType negotiate(String accept) {
+    if (StringUtils.isBlank(accept)) {
+      return MediaType.APPLICATION_JSON;
+    }
+    List<MediaType> accepted;
+    try {
+      accepted = MediaType.parseMediaTypes(accept);
+    } catch (InvalidMediaTypeException e) {
+      return null;
+    }
+    MediaType negotiated = null;
+    double negotiatedQuality = 0;
+    for (MediaType representation : REPRESENTATIONS) {
+      double quality = quality(accepted, representation);
+      if (quality > negotiatedQuality) {
+        negotiated = representation;
+        negotiatedQuality = quality;
+      }
+    }
+    return negotiated;
+  }
+
+  /**
+   * Determines the quality value of a representation.
+   *
+   * @param accepted the media ranges of the {@code Accept} header
+   * @param representation the media type of the representation
+   * @return the quality value of the most specific media range including the representation, {@code 0} if none
+   */
+  private static double quality(List<MediaType> accepted, MediaType representation) {
+    MediaType match = null;
+    for (MediaType range : accepted) {
+      if (range.includes(representation) && (match == null || specificity(range) > specificity(match))) {
+        match = range;
+      }
+    }
+    return match == null ? 0 : match.getQualityValue();
+  }
+
+  /**
+   * Ranks a media range by specificity.
+   *
+   * @param range the media range
+   * @return {@code 0} for any type, {@code 1} for a wildcard subtype and {@code 2} for a concrete type
+   */
+  private static int specificity(MediaType range) {
+    if (range.isWildcardType()) {
+      return 0;
+    }
+    return range.isWildcardSubtype() ? 1 : 2;
+  }
+}
@@ -0,0 +1,267 @@
+package ipu.example.demo.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import ipu.example.demo.config.AsyncConfig;
+import ipu.example.demo.dto.TutorialDto;
+import ipu.example.demo.model.ServiceException;
+import ipu.example.demo.service.TutorialChangeTracker;
+import ipu.example.demo.service.TutorialQueryService;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Cache of the serialized responses of the list and search endpoints (stale-while-revalidate).
+ * <p>
+ * Responses are keyed by the normalized query parameters, the negotiated media type and the generation of the
+ * {@link TutorialChangeTracker}. A write through the service advances the generation, so later requests use new
+ * keys and the entries of older generations are never read again; they are evicted by size or expiry without
+ * scanning the keys.
+ * <p>
+ * An entry is fresh for {@code ttl}. Within the following {@code stale-window} it is still returned immediately,
+ * while one background reload per key recomputes it on the {@value AsyncConfig#TUTORIAL_EXECUTOR} executor;
+ * afterwards it expires. The TTL bounds how long changes not made through the service remain unseen.
+ * Entries hold the encoded body, so a hit neither maps nor serializes the tutorials. Since a single list
+ * response may hold the whole catalogue, the cache is bounded by the bytes of the bodies ({@code maximum-weight})
+ * rather than by the number of entries. Statistics are published as cache metrics named {@value #CACHE_NAME}.
+ * <p>
+ * The cache is only created if {@code ipu.example.demo.response-cache.enabled} is {@code true}.
+ */
+@Component
+@ConditionalOnProperty(name = "ipu.example.demo.response-cache.enabled", havingValue = "true")
+class TutorialResponseCache {
+
+  /** Name of the cache in the cache metrics. */
+  static final String CACHE_NAME = "tutorialResponses";
+
+  /** Estimated bytes of key and entry objects added to the weight of each body. */
+  private static final int ENTRY_OVERHEAD = 128;
+
+  /**
+   * Kind of cached query.
+   */
+  private enum Operation {
+    /** All tutorials, optionally paged. */
+    ALL,
+    /** Tutorials whose title contains the text, optionally paged. */
+    TITLE,
+    /** Tutorials whose description contains the text, optionally paged. */
+    DESCRIPTION,
+    /** Ranked search. */
+    SEARCH
+  }
+
+  /**
+   * Normalized request of a cached response.
+   *
+   * @param operation the kind of query
+   * @param text the search text, {@code null} for all tutorials
+   * @param afterId the ID after which a page starts, {@code -1} if not paged
+   * @param limit the page size or the number of search results, {@code 0} if not paged
+   * @param mediaType the media type of the response
+   * @param generation the generation of the tutorial data
+   */
+  private record Key(Operation operation, String text, long afterId, int limit, MediaType mediaType,
+      long generation) {
+  }
+
+  /**
+   * Encoded response.
+   *
+   * @param body the encoded body, {@code null} for 204
+   * @param mediaType the media type of the body
+   * @param nextCursor the cursor of the next page, {@code null} if there is none
+   */
+  private record CachedResponse(byte[] body, MediaType mediaType, String nextCursor) {
+  }
+
+  private final TutorialQueryService tutorialQueryService;
+  private final TutorialChangeTracker changeTracker;
+  private final HttpMessageConverters messageConverters;
+  private final AsyncLoadingCache<Key, CachedResponse> cache;
+
+  /**
+   * Constructor with dependency injection.
+   *
+   * @param tutorialQueryService the service computing the responses
+   * @param changeTracker the tracker of the data generation keying the responses
+   * @param messageConverters the converters providing the object mappers of the media types
+   * @param executor the executor computing and reloading the responses
+   * @param ttl the time an entry is fresh
+   * @param staleWindow the time a stale entry is still returned while it is reloaded
+   * @param maximumWeight the maximum total size of the cached bodies
+   * @param meterRegistry the registry to publish the cache statistics to
+   */
+  TutorialResponseCache(TutorialQueryService tutorialQueryService, TutorialChangeTracker changeTracker,
+      HttpMessageConverters messageConverters,
+      @Qualifier(AsyncConfig.TUTORIAL_EXECUTOR) Executor executor,
+      @Value("${ipu.example.demo.response-cache.ttl:5s}") Duration ttl,
+      @Value("${ipu.example.demo.response-cache.stale-window:30s}") Duration staleWindow,
+      @Value("${ipu.example.demo.response-cache.maximum-weight:64MB}") DataSize maximumWeight,
+      MeterRegistry meterRegistry) {
+    this.tutorialQueryService = tutorialQueryService;
+    this.changeTracker = changeTracker;
+    this.messageConverters = messageConverters;
+    this.cache = Caffeine.newBuilder()
+        .maximumWeight(maximumWeight.toBytes())
+        .weigher(TutorialResponseCache::weigh)
+        .refreshAfterWrite(ttl)
+        .expireAfterWrite(ttl.plus(staleWindow))
+        .executor(executor)
+        .recordStats()
+        .buildAsync(this::load);
+    CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), CACHE_NAME);
+  }
+
+  /**
+   * Returns the list of tutorials filtered like {@code GET /api/tutorials}.
+   *
+   * @param title optional title filter, preferred over the description filter
+   * @param description optional description filter
+   * @param afterId the ID after which the page starts, {@code -1} if not paged
+   * @param limit the page size, {@code 0} if not paged
+   * @param mediaType the media type returned by {@link TutorialMediaTypes#negotiate(String)}
+   * @return future of the response
+   */
+  CompletableFuture<ResponseEntity<?>> getTutorials(String title, String description, long afterId, int limit,
+      MediaType mediaType) {
+    Key key;
+    if (StringUtils.isNotEmpty(title)) {
+      key = new Key(Operation.TITLE, title, afterId, limit, mediaType, changeTracker.getGeneration());
+    } else if (StringUtils.isNotEmpty(description)) {
+      key = new Key(Operation.DESCRIPTION, description, afterId, limit, mediaType, changeTracker.getGeneration());
+    } else {
+      key = new Key(Operation.ALL, null, afterId, limit, mediaType, changeTracker.getGeneration());
+    }
+    return cache.get(key).thenApply(TutorialResponseCache::toResponseEntity);
+  }
+
+  /**
+   * Returns the ranked search results like {@code GET /api/tutorials/search}.
+   *
+   * @param query the search terms; case and whitespace are normalized
+   * @param limit the maximum number of results
+   * @param mediaType the media type returned by {@link TutorialMediaTypes#negotiate(String)}
+   * @return future of the response
+   */
+  CompletableFuture<ResponseEntity<?>> search(String query, int limit, MediaType mediaType) {
+    String terms = String.join(" ", query.trim().toLowerCase(Locale.ROOT).split("\\s+"));
+    return cache.get(new Key(Operation.SEARCH, terms, -1L, limit, mediaType, changeTracker.getGeneration()))
+        .thenApply(TutorialResponseCache::toResponseEntity);
+  }
+
+  /**
+   * Computes and encodes the response of a key.
+   *
+   * @param key the normalized request
+   * @return the encoded response
+   * @throws ServiceException if the query fails
+   * @throws JsonProcessingException if encoding fails
+   */
+  private CachedResponse load(Key key) throws ServiceException, JsonProcessingException {
+    List<?> content;
+    String nextCursor = null;
+    if (key.operation() == Operation.SEARCH) {
+      content = tutorialQueryService.search(key.text(), key.limit());
+    } else if (key.afterId() < 0) {
+      content = switch (key.operation()) {
+        case TITLE -> tutorialQueryService.findByTitleContaining(key.text());
+        case DESCRIPTION -> tutorialQueryService.findByDescriptionContaining(key.text());
+        default -> tutorialQueryService.getAllTutorials();
+      };
+    } else {
+      Window<TutorialDto> window = switch (key.operation()) {
+        case TITLE -> tutorialQueryService.findByTitleContainingAfter(key.text(), key.afterId(), key.limit());
+        case DESCRIPTION ->
+            tutorialQueryService.findByDescriptionContainingAfter(key.text(), key.afterId(), key.limit());
+        default -> tutorialQueryService.getTutorialsAfter(key.afterId(), key.limit());
+      };
+      content = window.getContent();
+      nextCursor = nextCursor(window);
+    }
+    if (content.isEmpty()) {
+      return new CachedResponse(null, key.mediaType(), null);
+    }
+    byte[] body = converterFor(key.mediaType()).getObjectMapper().writeValueAsBytes(content);
+    return new CachedResponse(body, key.mediaType(), nextCursor);
+  }
+
+  /**
+   * Returns the cursor of the page following a window.
+   *
+   * @param window the window of tutorials
+   * @return the cursor, {@code null} if there is no further page
+   */
+  private static String nextCursor(Window<TutorialDto> window) {
+    if (!window.hasNext()) {
+      return null;
+    }
+    List<TutorialDto> content = window.getContent();
+    return TutorialCursor.encode(content.get(content.size() - 1).getId());
+  }
+
+  /**
+   * Finds the Jackson converter writing a media type.
+   *
+   * @param mediaType the media type
+   * @return the converter
+   */
+  private AbstractJackson2HttpMessageConverter converterFor(MediaType mediaType) {
+    for (HttpMessageConverter<?> converter : messageConverters.getConverters()) {
+      if (converter instanceof AbstractJackson2HttpMessageConverter jacksonConverter
+          && jacksonConverter.canWrite(List.class, mediaType)) {
+        return jacksonConverter;
+      }
+    }
+    throw new IllegalStateException("No Jackson converter for " + mediaType);
+  }
+
+  /**
+   * Creates the response of a cached entry.
+   *
+   * @param response the cached entry
+   * @return 200 with the encoded body and the cursor of the next page, or 204 without body
+   */
+  private static ResponseEntity<?> toResponseEntity(CachedResponse response) {
+    if (response.body() == null) {
+      return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(response.mediaType());
+    if (response.nextCursor() != null) {
+      headers.set(TutorialController.NEXT_CURSOR_HEADER, response.nextCursor());
+    }
+    return new ResponseEntity<>(response.body(), headers, HttpStatus.OK);
+  }
+
+  /**
+   * Weighs a cached response by the length of its body.
+   *
+   * @param key the key of the response
+   * @param response the cached response
+   * @return the estimated size of the entry in bytes
+   */
+  private static int weigh(Key key, CachedResponse response) {
+    return ENTRY_OVERHEAD + (response.body() == null ? 0 : response.body().length);
+  }
+}
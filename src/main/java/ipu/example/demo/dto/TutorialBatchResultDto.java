@@ -0,0 +1,42 @@
+package ipu.example.demo.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Data Transfer Object (DTO) describing the outcome for one tutorial of a bulk create request.
+ */
+@Builder
+@Data
+public class TutorialBatchResultDto {
+
+  /**
+   * Outcome of creating a single tutorial.
+   */
+  public enum Status {
+    /** The tutorial has been created. */
+    CREATED,
+    /** The tutorial could not be created. */
+    FAILED
+  }
+
+  /**
+   * Zero based position of the tutorial in the request.
+   */
+  private long index;
+
+  /**
+   * Generated ID of the created tutorial, {@code null} if it could not be created.
+   */
+  private Long id;
+
+  /**
+   * Outcome for the tutorial.
+   */
+  private Status status;
+
+  /**
+   * Reason of the failure, {@code null} if the tutorial has been created.
+   */
+  private String error;
+}
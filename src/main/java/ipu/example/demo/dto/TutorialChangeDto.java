@@ -0,0 +1,33 @@
+package ipu.example.demo.dto;
+
+import ipu.example.demo.model.TutorialChangeEvent;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Data Transfer Object (DTO) describing one change of the tutorials in the change feed.
+ */
+@Builder
+@Data
+public class TutorialChangeDto {
+
+  /**
+   * Sequence number of the change, increasing by one with every change since startup.
+   */
+  private long sequence;
+
+  /**
+   * Kind of change.
+   */
+  private TutorialChangeEvent.Type type;
+
+  /**
+   * ID of the changed tutorial, {@code null} if all tutorials have been deleted.
+   */
+  private Long id;
+
+  /**
+   * State of the tutorial after the change, {@code null} for deletions.
+   */
+  private TutorialDto tutorial;
+}
@@ -0,0 +1,39 @@
+package ipu.example.demo.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Data Transfer Object (DTO) describing the tutorials changed and deleted since a revision.
+ */
+@Builder
+@Data
+public class TutorialDeltaDto {
+
+  /**
+   * Tutorials created or updated since the requested revision, in their current state.
+   */
+  private List<TutorialDto> changed;
+
+  /**
+   * IDs of the tutorials deleted since the requested revision.
+   */
+  private List<Long> deleted;
+
+  /**
+   * Revision the client has caught up to; pass it as {@code since} of the next request.
+   */
+  private long revision;
+
+  /**
+   * Last ID read of {@code revision} if the revision continues on the next page, {@code null} if it has been
+   * read completely; pass it as {@code afterId} of the next request.
+   */
+  private Long afterId;
+
+  /**
+   * Whether further changes up to the current revision are available and should be requested right away.
+   */
+  private boolean hasMore;
+}
@@ -0,0 +1,37 @@
+package ipu.example.demo.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Data Transfer Object (DTO) describing the outcome for one ID of a lookup of tutorials by IDs.
+ */
+@Builder
+@Data
+public class TutorialLookupResultDto {
+
+  /**
+   * Outcome of looking up a single ID.
+   */
+  public enum Status {
+    /** The tutorial has been found. */
+    FOUND,
+    /** No tutorial exists with the ID. */
+    NOT_FOUND
+  }
+
+  /**
+   * The requested ID.
+   */
+  private long id;
+
+  /**
+   * Outcome for the ID.
+   */
+  private Status status;
+
+  /**
+   * The tutorial, {@code null} if it has not been found.
+   */
+  private TutorialDto tutorial;
+}
@@ -0,0 +1,32 @@
+package ipu.example.demo.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Data Transfer Object (DTO) describing one tutorial found by a ranked search.
+ */
+@Builder
+@Data
+public class TutorialSearchResultDto {
+
+  /**
+   * Unique identifier of the tutorial.
+   */
+  private Long id;
+
+  /**
+   * Title of the tutorial.
+   */
+  private String title;
+
+  /**
+   * Description of the tutorial.
+   */
+  private String description;
+
+  /**
+   * Relevance of the tutorial for the search query, higher is better.
+   */
+  private int score;
+}
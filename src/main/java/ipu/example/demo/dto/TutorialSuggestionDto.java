@@ -0,0 +1,22 @@
+package ipu.example.demo.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Data Transfer Object (DTO) describing a tutorial suggested for a typed title prefix.
+ */
+@Builder
+@Data
+public class TutorialSuggestionDto {
+
+  /**
+   * Unique identifier of the tutorial.
+   */
+  private Long id;
+
+  /**
+   * Title of the tutorial.
+   */
+  private String title;
+}
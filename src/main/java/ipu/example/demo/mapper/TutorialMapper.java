@@ -5,6 +5,7 @@ import ipu.example.demo.model.Tutorial;
 import jakarta.validation.constraints.NotNull;
 import java.util.List;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
 
 /**
@@ -34,9 +35,14 @@ public interface TutorialMapper {
 
  /**
   * Maps a {@link TutorialDto} to a {@link Tutorial} entity.
+  * <p>
+  * Version, revision and deletion mark are maintained by the persistence layer and never taken from a DTO.
   *
   * @param dto the DTO to convert
   * @return the mapped entity
   */
+ @Mapping(target = "version", ignore = true)
+ @Mapping(target = "revision", ignore = true)
+ @Mapping(target = "deleted", ignore = true)
  Tutorial dtoToTutorial(@NotNull TutorialDto dto);
 }
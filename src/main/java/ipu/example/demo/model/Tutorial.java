@@ -1,37 +1,75 @@
 package ipu.example.demo.model;
 
+import ipu.example.demo.repository.TutorialRevisionListener;
+import ipu.example.demo.repository.TutorialRevisions;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLRestriction;
 
 /**
  * Represents a tutorial entity stored in the database.
  * <p>
  * This class is mapped to the {@code tutorials} table using JPA annotations.
- * It contains basic fields such as {@code id}, {@code title}, and {@code description}.
+ * It contains basic fields such as {@code id}, {@code title}, and {@code description}
+ * as well as a {@code version} for optimistic locking.
+ * <p>
+ * Every write assigns the next global {@code revision}, and deleting a tutorial only marks it as
+ * {@code deleted}, so clients can ask for everything changed or deleted since a revision.
+ * Deleted tutorials (tombstones) are excluded from all JPQL queries and lookups by ID; only native
+ * queries see them.
+ * <p>
+ * Tutorials are cacheable in the {@value #CACHE_REGION} region of the Hibernate second-level cache, which is
+ * only used if it is enabled (profile {@code l2cache}). The cache is read-write: a tutorial being updated is
+ * locked in the cache until the transaction completes, so no reader sees an uncommitted state.
  */
 @Entity
-@Table(name = "tutorials")
+@Table(name = "tutorials", indexes = @Index(name = "ix_tutorials_revision", columnList = "revision, id"))
+@EntityListeners(TutorialRevisionListener.class)
+@SQLRestriction("deleted = false")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Tutorial.CACHE_REGION)
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Tutorial {
 
+  /**
+   * Region of the second-level cache holding the tutorials by ID.
+   */
+  public static final String CACHE_REGION = "tutorial-entities";
+
+  /**
+   * Number of IDs reserved per call of the ID sequence; must match the increment of {@code tutorials_seq}.
+   */
+  public static final int ID_ALLOCATION_SIZE = 50;
+
   /**
    * The unique identifier for the tutorial.
    * <p>
-   * This ID is automatically generated.
+   * This ID is automatically generated from the {@code tutorials_seq} sequence. Hibernate reserves
+   * blocks of {@value #ID_ALLOCATION_SIZE} IDs per sequence call (pooled optimizer), so batch inserts
+   * do not need a database round trip per row.
    */
   @Id
-  @GeneratedValue(strategy = GenerationType.AUTO)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tutorials_seq")
+  @SequenceGenerator(name = "tutorials_seq", sequenceName = "tutorials_seq", allocationSize = ID_ALLOCATION_SIZE)
   private Long id;
 
   /**
@@ -45,4 +83,31 @@ public class Tutorial {
    */
   @Column(name = "description")
   private String description;
+
+  /**
+   * The version of the tutorial, incremented with every change.
+   * <p>
+   * Used for optimistic locking: an update only succeeds if the tutorial still has the version
+   * the update is based on.
+   */
+  @Version
+  @Column(name = "version", nullable = false)
+  @ColumnDefault("0")
+  private Long version;
+
+  /**
+   * The global revision of the latest write of the tutorial, including its deletion.
+   * <p>
+   * Assigned by {@link TutorialRevisions} on every insert and update; revisions increase across all tutorials.
+   */
+  @Column(name = "revision", nullable = false)
+  @ColumnDefault("0")
+  private long revision;
+
+  /**
+   * Whether the tutorial has been deleted. The row is kept as tombstone for delta synchronization.
+   */
+  @Column(name = "deleted", nullable = false)
+  @ColumnDefault("false")
+  private boolean deleted;
 }
@@ -0,0 +1,86 @@
+package ipu.example.demo.model;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Application event published by the service layer after tutorials have been changed.
+ * <p>
+ * Components keeping derived state of the tutorials (e.g. in-memory indexes) listen to this event
+ * to stay up to date incrementally. The event is published after the change has been written
+ * to the database; changes made within a transaction should be consumed with
+ * {@code @TransactionalEventListener(fallbackExecution = true)} so listeners only see committed changes.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TutorialChangeEvent {
+
+  /**
+   * Kind of change described by a {@link TutorialChangeEvent}.
+   */
+  public enum Type {
+    /** A tutorial has been created. */
+    CREATED,
+    /** A tutorial has been updated. */
+    UPDATED,
+    /** A tutorial has been deleted. */
+    DELETED,
+    /** All tutorials have been deleted. */
+    CLEARED
+  }
+
+  /**
+   * The kind of change.
+   */
+  private final Type type;
+
+  /**
+   * The ID of the changed tutorial, {@code null} for {@link Type#CLEARED}.
+   */
+  private final Long id;
+
+  /**
+   * The state of the tutorial after the change, {@code null} for {@link Type#DELETED} and {@link Type#CLEARED}.
+   */
+  private final Tutorial tutorial;
+
+  /**
+   * Creates an event for a newly created tutorial.
+   *
+   * @param tutorial the created tutorial
+   * @return the event
+   */
+  public static TutorialChangeEvent created(Tutorial tutorial) {
+    return new TutorialChangeEvent(Type.CREATED, tutorial.getId(), tutorial);
+  }
+
+  /**
+   * Creates an event for an updated tutorial.
+   *
+   * @param tutorial the updated tutorial
+   * @return the event
+   */
+  public static TutorialChangeEvent updated(Tutorial tutorial) {
+    return new TutorialChangeEvent(Type.UPDATED, tutorial.getId(), tutorial);
+  }
+
+  /**
+   * Creates an event for a deleted tutorial.
+   *
+   * @param id the ID of the deleted tutorial
+   * @return the event
+   */
+  public static TutorialChangeEvent deleted(long id) {
+    return new TutorialChangeEvent(Type.DELETED, id, null);
+  }
+
+  /**
+   * Creates an event signalling that all tutorials have been deleted.
+   *
+   * @return the event
+   */
+  public static TutorialChangeEvent cleared() {
+    return new TutorialChangeEvent(Type.CLEARED, null, null);
+  }
+}
@@ -0,0 +1,18 @@
+package ipu.example.demo.model;
+
+/**
+ * Exception thrown when a tutorial should be changed based on a version that is no longer current.
+ * <p>
+ * This happens if another writer has changed the tutorial in the meantime (optimistic locking).
+ */
+public class VersionConflictException extends ServiceException {
+
+  /**
+   * Constructs a new {@code VersionConflictException} with the specified detail message.
+   *
+   * @param message the detail message explaining the conflict
+   */
+  public VersionConflictException(String message) {
+    super(message, null);
+  }
+}
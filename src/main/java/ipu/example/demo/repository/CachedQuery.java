@@ -0,0 +1,27 @@
+package ipu.example.demo.repository;
+
+import jakarta.persistence.QueryHint;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.QueryHints;
+
+/**
+ * Marks a finder method of the {@link TutorialRepository} whose results are cached in the
+ * {@value TutorialRepository#QUERY_CACHE_REGION} region of the Hibernate query cache.
+ * <p>
+ * Only finders returning projections, counts or existence are marked. For entities, the query cache only keeps
+ * their IDs and loads every entity again by ID, which queries the database once per tutorial (N+1 selects)
+ * whenever the entity region has evicted it.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@QueryHints({
+    @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+    @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = TutorialRepository.QUERY_CACHE_REGION)})
+public @interface CachedQuery {
+}
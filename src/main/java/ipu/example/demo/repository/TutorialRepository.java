@@ -1,17 +1,47 @@
 package ipu.example.demo.repository;
 
 import ipu.example.demo.model.Tutorial;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 /**
  * Repository interface for managing {@link Tutorial} entities.
  * <p>
  * Extends JpaRepository to provide CRUD operations and
  * includes custom finder methods for searching by title or description.
+ * <p>
+ * The finder methods taking a {@code type} return projections of the tutorials, e.g. DTOs whose constructor
+ * parameters match the selected properties. Only the properties are selected, no entities are loaded
+ * into the persistence context.
+ * <p>
+ * The results of the finders returning projections, counts or existence are cacheable in the
+ * {@value #QUERY_CACHE_REGION} region of the Hibernate query cache ({@link CachedQuery}), which is only used if
+ * it is enabled (profile {@code l2cache}). Hibernate invalidates the cached results whenever the {@code tutorials}
+ * table is written through JPA, including the bulk updates below. Finders returning entities are not cached,
+ * since their cached results would load each tutorial again by ID.
  */
 public interface TutorialRepository extends JpaRepository<Tutorial, Long> {
 
+  /**
+   * Number of rows the JDBC driver fetches per round trip when streaming tutorials.
+   */
+  String STREAM_FETCH_SIZE = "500";
+
+  /**
+   * Region of the query cache holding the results of the finder methods.
+   */
+  String QUERY_CACHE_REGION = "tutorial-queries";
+
   /**
    * Retrieves all tutorials where the title contains the given text (case insensitive).
    *
@@ -20,6 +50,17 @@ public interface TutorialRepository extends JpaRepository<Tutorial, Long> {
    */
   List<Tutorial> findByTitleContainingIgnoreCase(String text);
 
+  /**
+   * Retrieves projections of all tutorials where the title contains the given text (case insensitive).
+   *
+   * @param text partial text to search for within tutorial titles
+   * @param type the projection type
+   * @param <T> the projection type
+   * @return projections of the tutorials with titles containing the given text
+   */
+  @CachedQuery
+  <T> List<T> findByTitleContainingIgnoreCase(String text, Class<T> type);
+
   /**
    * Retrieves all tutorials where the description contains the given text (case insensitive).
    *
@@ -27,4 +68,257 @@ public interface TutorialRepository extends JpaRepository<Tutorial, Long> {
    * @return list of tutorials with descriptions containing the given text
    */
   List<Tutorial> findByDescriptionContainingIgnoreCase(String text);
+
+  /**
+   * Retrieves projections of all tutorials where the description contains the given text (case insensitive).
+   *
+   * @param text partial text to search for within tutorial descriptions
+   * @param type the projection type
+   * @param <T> the projection type
+   * @return projections of the tutorials with descriptions containing the given text
+   */
+  @CachedQuery
+  <T> List<T> findByDescriptionContainingIgnoreCase(String text, Class<T> type);
+
+  /**
+   * Counts the tutorials where the title contains the given text (case insensitive).
+   *
+   * @param text partial text to search for within tutorial titles
+   * @return the number of matching tutorials
+   */
+  @CachedQuery
+  long countByTitleContainingIgnoreCase(String text);
+
+  /**
+   * Counts the tutorials where the description contains the given text (case insensitive).
+   *
+   * @param text partial text to search for within tutorial descriptions
+   * @return the number of matching tutorials
+   */
+  @CachedQuery
+  long countByDescriptionContainingIgnoreCase(String text);
+
+  /**
+   * Checks whether a tutorial exists whose title contains the given text (case insensitive).
+   * The query stops at the first matching row.
+   *
+   * @param text partial text to search for within tutorial titles
+   * @return {@code true} if at least one tutorial matches
+   */
+  @CachedQuery
+  boolean existsByTitleContainingIgnoreCase(String text);
+
+  /**
+   * Checks whether a tutorial exists whose description contains the given text (case insensitive).
+   * The query stops at the first matching row.
+   *
+   * @param text partial text to search for within tutorial descriptions
+   * @return {@code true} if at least one tutorial matches
+   */
+  @CachedQuery
+  boolean existsByDescriptionContainingIgnoreCase(String text);
+
+  /**
+   * Checks whether any tutorial exists. The query stops at the first row.
+   *
+   * @return {@code true} if at least one tutorial exists
+   */
+  @CachedQuery
+  boolean existsByIdNotNull();
+
+  /**
+   * Retrieves projections of all tutorials ordered by ID.
+   *
+   * @param type the projection type
+   * @param <T> the projection type
+   * @return projections of all tutorials in ascending ID order
+   */
+  @CachedQuery
+  <T> List<T> findAllByOrderByIdAsc(Class<T> type);
+
+  /**
+   * Retrieves the next page of tutorials following the given ID, ordered by ID (keyset pagination).
+   *
+   * @param id the last ID of the previous page; only tutorials with a greater ID are returned
+   * @param limit the maximum number of tutorials to return
+   * @return the tutorials following the given ID in ascending ID order
+   */
+  List<Tutorial> findByIdGreaterThanOrderByIdAsc(long id, Limit limit);
+
+  /**
+   * Retrieves projections of the next page of tutorials following the given ID, ordered by ID.
+   *
+   * @param id the last ID of the previous page; only tutorials with a greater ID are returned
+   * @param limit the maximum number of tutorials to return
+   * @param type the projection type
+   * @param <T> the projection type
+   * @return projections of the tutorials following the given ID in ascending ID order
+   */
+  @CachedQuery
+  <T> List<T> findByIdGreaterThanOrderByIdAsc(long id, Limit limit, Class<T> type);
+
+  /**
+   * Retrieves the next page of tutorials whose title contains the given text (case insensitive),
+   * following the given ID and ordered by ID (keyset pagination).
+   *
+   * @param text partial text to search for within tutorial titles
+   * @param id the last ID of the previous page; only tutorials with a greater ID are returned
+   * @param limit the maximum number of tutorials to return
+   * @return the matching tutorials following the given ID in ascending ID order
+   */
+  List<Tutorial> findByTitleContainingIgnoreCaseAndIdGreaterThanOrderByIdAsc(String text, long id, Limit limit);
+
+  /**
+   * Retrieves projections of the next page of tutorials whose title contains the given text (case insensitive),
+   * following the given ID and ordered by ID.
+   *
+   * @param text partial text to search for within tutorial titles
+   * @param id the last ID of the previous page; only tutorials with a greater ID are returned
+   * @param limit the maximum number of tutorials to return
+   * @param type the projection type
+   * @param <T> the projection type
+   * @return projections of the matching tutorials following the given ID in ascending ID order
+   */
+  @CachedQuery
+  <T> List<T> findByTitleContainingIgnoreCaseAndIdGreaterThanOrderByIdAsc(String text, long id, Limit limit,
+      Class<T> type);
+
+  /**
+   * Retrieves the next page of tutorials whose description contains the given text (case insensitive),
+   * following the given ID and ordered by ID (keyset pagination).
+   *
+   * @param text partial text to search for within tutorial descriptions
+   * @param id the last ID of the previous page; only tutorials with a greater ID are returned
+   * @param limit the maximum number of tutorials to return
+   * @return the matching tutorials following the given ID in ascending ID order
+   */
+  List<Tutorial> findByDescriptionContainingIgnoreCaseAndIdGreaterThanOrderByIdAsc(String text, long id, Limit limit);
+
+  /**
+   * Retrieves projections of the next page of tutorials whose description contains the given text
+   * (case insensitive), following the given ID and ordered by ID.
+   *
+   * @param text partial text to search for within tutorial descriptions
+   * @param id the last ID of the previous page; only tutorials with a greater ID are returned
+   * @param limit the maximum number of tutorials to return
+   * @param type the projection type
+   * @param <T> the projection type
+   * @return projections of the matching tutorials following the given ID in ascending ID order
+   */
+  @CachedQuery
+  <T> List<T> findByDescriptionContainingIgnoreCaseAndIdGreaterThanOrderByIdAsc(String text, long id, Limit limit,
+      Class<T> type);
+
+  /**
+   * Streams all tutorials ordered by ID.
+   * <p>
+   * The rows are fetched from the JDBC result set in chunks of {@value #STREAM_FETCH_SIZE} and loaded
+   * as read-only entities. The stream must be consumed inside a transaction and closed afterwards.
+   *
+   * @return a stream of all tutorials
+   */
+  @Query("select t from Tutorial t order by t.id")
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+  Stream<Tutorial> streamAllByOrderByIdAsc();
+
+  /**
+   * Streams projections of all tutorials whose title or description contains the given text (case insensitive).
+   * <p>
+   * The rows are fetched in chunks of {@value #STREAM_FETCH_SIZE}. The stream must be consumed inside
+   * a transaction and closed afterwards.
+   *
+   * @param title partial text to search for within tutorial titles
+   * @param description partial text to search for within tutorial descriptions
+   * @param type the projection type
+   * @param <T> the projection type
+   * @return a stream of projections of the matching tutorials
+   */
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+  <T> Stream<T> streamByTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase(String title, String description,
+      Class<T> type);
+
+  /**
+   * Marks all tutorials with the given IDs as deleted using a single {@code UPDATE ... WHERE id IN (...)}
+   * statement, without loading them into the persistence context. The rows are kept as tombstones.
+   *
+   * @param ids the IDs of the tutorials to delete
+   * @param revision the revision of the deletion
+   * @return the number of deleted tutorials
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("update Tutorial t set t.deleted = true, t.revision = :revision, t.version = t.version + 1 "
+      + "where t.id in :ids and t.deleted = false")
+  int markDeletedByIdIn(@Param("ids") Collection<Long> ids, @Param("revision") long revision);
+
+  /**
+   * Marks all tutorials as deleted using a single {@code UPDATE} statement. The rows are kept as tombstones.
+   *
+   * @param revision the revision of the deletion
+   * @return the number of deleted tutorials
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("update Tutorial t set t.deleted = true, t.revision = :revision, t.version = t.version + 1 "
+      + "where t.deleted = false")
+  int markAllDeleted(@Param("revision") long revision);
+
+  /**
+   * Returns the highest revision of all tutorials, including deleted ones.
+   *
+   * @return the highest revision, {@code 0} if there are no tutorials
+   */
+  @Query(value = "select coalesce(max(t.revision), 0) from tutorials t", nativeQuery = true)
+  long findMaxRevision();
+
+  /**
+   * Retrieves the tutorials following the position {@code (revision, afterId)} up to a revision, including
+   * deleted ones, ordered by revision and ID. The query is answered by the {@code (revision, id)} index.
+   * The loaded tombstones are not put into the second-level cache, where lookups by ID would find them.
+   *
+   * @param revision the revision of the position
+   * @param afterId the last ID read of that revision, {@link Long#MAX_VALUE} if it has been read completely
+   * @param untilRevision the highest revision to include
+   * @param limit the maximum number of tutorials
+   * @return the tutorials, including tombstones
+   */
+  @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_CACHE_STORE_MODE, value = "BYPASS"))
+  @Query(value = "select t.* from tutorials t "
+      + "where (t.revision > :revision or (t.revision = :revision and t.id > :afterId)) "
+      + "and t.revision <= :untilRevision order by t.revision, t.id limit :limit", nativeQuery = true)
+  List<Tutorial> findWrittenAfter(@Param("revision") long revision, @Param("afterId") long afterId,
+      @Param("untilRevision") long untilRevision, @Param("limit") int limit);
+
+  /**
+   * Retrieves the IDs of all tutorials written with the given revision, including deleted ones, ordered by ID.
+   *
+   * @param revision the revision
+   * @return the IDs of the tutorials
+   */
+  @Query(value = "select t.id from tutorials t where t.revision = :revision order by t.id", nativeQuery = true)
+  List<Long> findIdsWrittenWith(@Param("revision") long revision);
+
+  /**
+   * Partially updates a tutorial with a single {@code UPDATE} statement, increments its version and
+   * sets its revision.
+   * <p>
+   * Only non-null values are written. If a version is given, the update only takes place if the
+   * tutorial still has this version.
+   *
+   * @param id the ID of the tutorial to update
+   * @param title the new title, or {@code null} to keep the current title
+   * @param description the new description, or {@code null} to keep the current description
+   * @param version the expected current version, or {@code null} to update regardless of the version
+   * @param revision the revision of the update
+   * @return the number of updated tutorials, {@code 0} if the tutorial does not exist or has another version
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("update Tutorial t set t.title = coalesce(:title, t.title), "
+      + "t.description = coalesce(:description, t.description), t.version = t.version + 1, "
+      + "t.revision = :revision "
+      + "where t.id = :id and t.deleted = false and (:version is null or t.version = :version)")
+  int patchById(@Param("id") long id, @Param("title") String title, @Param("description") String description,
+      @Param("version") Long version, @Param("revision") long revision);
 }
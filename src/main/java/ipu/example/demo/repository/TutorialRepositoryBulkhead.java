@@ -0,0 +1,149 @@
+package ipu.example.demo.repository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionAttribute;
+import org.springframework.transaction.interceptor.TransactionAttributeSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Bulkhead limiting the number of concurrent database accesses to the size of the connection pool.
+ * <p>
+ * Guards the calls of the {@link TutorialRepository} and the transactional methods of the tutorial services.
+ * Callers exceeding the limit wait in a fair queue instead of blocking inside the connection pool, which
+ * matters when requests are served on virtual threads and their number is no longer bounded by a thread pool.
+ * Calls within an already active transaction hold a connection and therefore pass without a permit.
+ * Service methods that do not start a transaction (propagation {@code SUPPORTS}, {@code NOT_SUPPORTED} or
+ * {@code NEVER}) pass without a permit as well; only the repository calls they make are guarded, so a caller
+ * waiting for the result of another caller's query holds no permit. The permit is reentrant per thread: nested
+ * guarded calls of a thread holding it pass without acquiring another one.
+ * <p>
+ * The time spent waiting for a permit is recorded in the {@value #WAIT_TIMER} timer, tagged by outcome.
+ * If no permit is available within the maximum wait time, a {@link TransientDataAccessResourceException} is thrown.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "ipu.example.demo.bulkhead.enabled", havingValue = "true")
+public class TutorialRepositoryBulkhead {
+
+  /** Name of the timer recording the time spent waiting for a permit. */
+  static final String WAIT_TIMER = "tutorial.bulkhead.wait";
+
+  /** Name of the gauge of the available permits. */
+  static final String AVAILABLE_GAUGE = "tutorial.bulkhead.available";
+
+  /** Name of the gauge of the callers waiting for a permit. */
+  static final String QUEUED_GAUGE = "tutorial.bulkhead.queued";
+
+  /** Transaction attributes of the service methods, to tell whether they start a transaction. */
+  private final TransactionAttributeSource transactionAttributes = new AnnotationTransactionAttributeSource();
+
+  /** Whether the current thread holds a permit. */
+  private final ThreadLocal<Boolean> permitHeld = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+  private final Semaphore permits;
+  private final Duration maxWait;
+  private final Timer acquiredTimer;
+  private final Timer rejectedTimer;
+
+  /**
+   * Constructor with dependency injection.
+   *
+   * @param maxConcurrentCalls maximum number of concurrent database accesses, defaults to the connection pool size
+   * @param maxWait maximum time to wait for a permit
+   * @param meterRegistry the registry to record the queue metrics to
+   */
+  public TutorialRepositoryBulkhead(
+      @Value("${ipu.example.demo.bulkhead.max-concurrent-calls:${spring.datasource.hikari.maximum-pool-size:10}}")
+      int maxConcurrentCalls,
+      @Value("${ipu.example.demo.bulkhead.max-wait:5s}") Duration maxWait,
+      MeterRegistry meterRegistry) {
+    this.permits = new Semaphore(maxConcurrentCalls, true);
+    this.maxWait = maxWait;
+    this.acquiredTimer = Timer.builder(WAIT_TIMER).tag("outcome", "acquired")
+        .publishPercentileHistogram().register(meterRegistry);
+    this.rejectedTimer = Timer.builder(WAIT_TIMER).tag("outcome", "rejected").register(meterRegistry);
+    Gauge.builder(AVAILABLE_GAUGE, permits, Semaphore::availablePermits).register(meterRegistry);
+    Gauge.builder(QUEUED_GAUGE, permits, Semaphore::getQueueLength).register(meterRegistry);
+  }
+
+  /**
+   * Executes a database access while holding a permit of the bulkhead.
+   *
+   * @param joinPoint the guarded method invocation
+   * @return the result of the invocation
+   * @throws Throwable any exception of the invocation
+   * @throws TransientDataAccessResourceException if no permit was available within the maximum wait time
+   */
+  @Around("(execution(* *(..)) && target(ipu.example.demo.repository.TutorialRepository))"
+      + " || execution(@org.springframework.transaction.annotation.Transactional * ipu.example.demo.service.*.*(..))"
+      + " || (execution(public * ipu.example.demo.service.*.*(..))"
+      + " && @within(org.springframework.transaction.annotation.Transactional))")
+  public Object guard(ProceedingJoinPoint joinPoint) throws Throwable {
+    if (TransactionSynchronizationManager.isActualTransactionActive() || permitHeld.get()
+        || !startsTransaction(joinPoint)) {
+      return joinPoint.proceed();
+    }
+    long start = System.nanoTime();
+    if (!permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS)) {
+      rejectedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      throw new TransientDataAccessResourceException(
+          "No database permit available within " + maxWait + " for " + joinPoint.getSignature().toShortString());
+    }
+    acquiredTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    permitHeld.set(Boolean.TRUE);
+    try {
+      return joinPoint.proceed();
+    } finally {
+      permitHeld.remove();
+      permits.release();
+    }
+  }
+
+  /**
+   * Checks whether a guarded call starts a transaction and thereby uses a connection.
+   *
+   * @param joinPoint the guarded method invocation
+   * @return {@code true} for repository calls and for service methods whose propagation starts a transaction
+   */
+  private boolean startsTransaction(ProceedingJoinPoint joinPoint) {
+    if (joinPoint.getThis() instanceof TutorialRepository) {
+      return true;
+    }
+    TransactionAttribute attribute = transactionAttributes.getTransactionAttribute(
+        ((MethodSignature) joinPoint.getSignature()).getMethod(), joinPoint.getTarget().getClass());
+    if (attribute == null) {
+      return true;
+    }
+    int propagation = attribute.getPropagationBehavior();
+    return propagation != TransactionDefinition.PROPAGATION_SUPPORTS
+        && propagation != TransactionDefinition.PROPAGATION_NOT_SUPPORTED
+        && propagation != TransactionDefinition.PROPAGATION_NEVER;
+  }
+
+  /**
+   * Returns the number of currently available permits.
+   *
+   * @return the available permits
+   */
+  int availablePermits() {
+    return permits.availablePermits();
+  }
+}
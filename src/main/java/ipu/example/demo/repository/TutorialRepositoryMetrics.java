@@ -0,0 +1,66 @@
+package ipu.example.demo.repository;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import ipu.example.demo.config.MetricsConfig;
+import ipu.example.demo.model.Tutorial;
+import java.util.Collection;
+import java.util.Optional;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Component;
+
+/**
+ * Aspect recording the number of rows returned or changed by the methods of the {@link TutorialRepository}.
+ * <p>
+ * The rows are recorded in the {@value MetricsConfig#REPOSITORY_ROWS} distribution summary, tagged by method.
+ * The duration of the repository methods is recorded by Spring Boot in {@code spring.data.repository.invocations}.
+ * Results whose size is not known without consuming them (e.g. streams) are not recorded.
+ */
+@Aspect
+@Component
+public class TutorialRepositoryMetrics {
+
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * Constructor with dependency injection.
+   *
+   * @param meterRegistry the registry to record to
+   */
+  public TutorialRepositoryMetrics(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Records the number of rows of a repository method result.
+   *
+   * @param joinPoint the invoked repository method
+   * @param result the result of the method
+   */
+  @AfterReturning(pointcut = "execution(* *(..)) && target(ipu.example.demo.repository.TutorialRepository)",
+      returning = "result")
+  public void recordRows(JoinPoint joinPoint, Object result) {
+    long rows;
+    if (result instanceof Collection<?> collection) {
+      rows = collection.size();
+    } else if (result instanceof Window<?> window) {
+      rows = window.size();
+    } else if (result instanceof Optional<?> optional) {
+      rows = optional.isPresent() ? 1 : 0;
+    } else if (result instanceof Number number) {
+      rows = number.longValue();
+    } else if (result instanceof Tutorial) {
+      rows = 1;
+    } else {
+      return;
+    }
+    DistributionSummary.builder(MetricsConfig.REPOSITORY_ROWS)
+        .baseUnit("rows")
+        .tag("method", joinPoint.getSignature().getName())
+        .register(meterRegistry)
+        .record(rows);
+  }
+}
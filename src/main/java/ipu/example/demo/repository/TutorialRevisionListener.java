@@ -0,0 +1,37 @@
+package ipu.example.demo.repository;
+
+import ipu.example.demo.model.Tutorial;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+
+/**
+ * JPA entity listener assigning a new revision from {@link TutorialRevisions} to every inserted and
+ * updated {@link Tutorial}.
+ * <p>
+ * Hibernate creates the listener through the Spring bean factory, so the shared {@link TutorialRevisions}
+ * is injected.
+ */
+public class TutorialRevisionListener {
+
+  private final TutorialRevisions revisions;
+
+  /**
+   * Constructor injecting the {@link TutorialRevisions}.
+   *
+   * @param revisions the allocator of the revisions
+   */
+  public TutorialRevisionListener(TutorialRevisions revisions) {
+    this.revisions = revisions;
+  }
+
+  /**
+   * Assigns a new revision to a tutorial before it is inserted or updated.
+   *
+   * @param tutorial the tutorial to write
+   */
+  @PrePersist
+  @PreUpdate
+  public void assignRevision(Tutorial tutorial) {
+    tutorial.setRevision(revisions.allocate());
+  }
+}
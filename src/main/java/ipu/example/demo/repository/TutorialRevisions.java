@@ -0,0 +1,111 @@
+package ipu.example.demo.repository;
+
+import ipu.example.demo.model.Tutorial;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Allocates the global revisions of the tutorials and tracks which of them may still be uncommitted.
+ * <p>
+ * The {@link TutorialRevisionListener} assigns a new revision to every inserted and updated {@link Tutorial};
+ * bulk updates allocate their revision explicitly via {@link #allocate()}. Revisions are allocated
+ * within the writing transaction and count as in flight until that transaction completes.
+ * <p>
+ * Transactions commit in a different order than they allocate, so a revision may become visible after
+ * a higher one. The {@link #getHighWaterMark() high-water mark} therefore stops below the lowest revision
+ * in flight: every revision up to it is either committed or rolled back, and a client having read all
+ * changes up to the high-water mark will not miss a change committed later. Revisions are allocated in
+ * memory, so all writers must run in this application.
+ */
+@Component
+public class TutorialRevisions implements SmartInitializingSingleton {
+
+  /** Provider of the repository, looked up lazily as the entity listener is needed to build the repository. */
+  private final ObjectProvider<TutorialRepository> tutorialRepository;
+
+  /** Lowest revision allocated by each running transaction. */
+  private final NavigableSet<Long> inFlight = new ConcurrentSkipListSet<>();
+
+  /** The latest allocated revision; guarded by {@code this}. */
+  private long lastRevision;
+
+  /**
+   * Constructor injecting the repository provider.
+   *
+   * @param tutorialRepository provider of the repository the latest revision is read from at startup
+   */
+  public TutorialRevisions(ObjectProvider<TutorialRepository> tutorialRepository) {
+    this.tutorialRepository = tutorialRepository;
+  }
+
+  /**
+   * Continues with the highest revision stored in the database.
+   */
+  @Override
+  public void afterSingletonsInstantiated() {
+    long maxRevision = tutorialRepository.getObject().findMaxRevision();
+    synchronized (this) {
+      lastRevision = Math.max(lastRevision, maxRevision);
+    }
+  }
+
+  /**
+   * Allocates the next revision for the current transaction.
+   *
+   * @return the new revision
+   * @throws IllegalTransactionStateException if no transaction is active
+   */
+  public long allocate() {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      throw new IllegalTransactionStateException("Tutorial revisions can only be allocated within a transaction");
+    }
+    long revision;
+    synchronized (this) {
+      revision = ++lastRevision;
+      if (TransactionSynchronizationManager.getResource(this) == null) {
+        inFlight.add(revision);
+        TransactionSynchronizationManager.bindResource(this, revision);
+        TransactionSynchronizationManager.registerSynchronization(new Release(revision));
+      }
+    }
+    return revision;
+  }
+
+  /**
+   * Returns the highest revision up to which all writes are complete.
+   *
+   * @return the revision below the lowest one in flight, or the latest allocated revision if none is in flight
+   */
+  public synchronized long getHighWaterMark() {
+    return inFlight.isEmpty() ? lastRevision : inFlight.first() - 1;
+  }
+
+  /**
+   * Removes the revisions of a transaction from the ones in flight once it has completed.
+   */
+  private final class Release implements TransactionSynchronization {
+
+    private final long firstRevision;
+
+    /**
+     * Creates the release of a transaction.
+     *
+     * @param firstRevision the lowest revision allocated by the transaction
+     */
+    Release(long firstRevision) {
+      this.firstRevision = firstRevision;
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+      TransactionSynchronizationManager.unbindResourceIfPossible(TutorialRevisions.this);
+      inFlight.remove(firstRevision);
+    }
+  }
+}
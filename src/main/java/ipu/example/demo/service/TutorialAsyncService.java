@@ -0,0 +1,148 @@
+package ipu.example.demo.service;
+
+import ipu.example.demo.dto.TutorialDeltaDto;
+import ipu.example.demo.dto.TutorialDto;
+import ipu.example.demo.dto.TutorialSearchResultDto;
+import ipu.example.demo.model.Tutorial;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.data.domain.Window;
+
+/**
+ * Asynchronous variant of the read operations of the {@link TutorialService} and the {@link TutorialQueryService}.
+ * <p>
+ * The operations run on a dedicated executor and return immediately. The returned futures complete with the
+ * same results as the corresponding synchronous methods, or exceptionally with the
+ * {@link ipu.example.demo.model.ServiceException} thrown by them. Lists and pages of tutorials are read as
+ * DTO projections through the {@link TutorialQueryService}.
+ */
+public interface TutorialAsyncService {
+
+  /**
+   * Retrieves a tutorial by its ID.
+   *
+   * @param id the tutorial ID
+   * @return future of the tutorial if found, empty otherwise
+   * @see TutorialService#getTutorialById(long)
+   */
+  CompletableFuture<Optional<Tutorial>> getTutorialByIdAsync(long id);
+
+  /**
+   * Retrieves the tutorials with the given IDs.
+   *
+   * @param ids the IDs of the tutorials, may contain duplicates
+   * @return future of one {@link Optional} per given ID in the same order, empty if the tutorial is not found
+   * @see TutorialService#getTutorialsByIds(List)
+   */
+  CompletableFuture<List<Optional<Tutorial>>> getTutorialsByIdsAsync(List<Long> ids);
+
+  /**
+   * Retrieves all tutorials as DTOs ordered by ID.
+   *
+   * @return future of the list of all tutorials
+   * @see TutorialQueryService#getAllTutorials()
+   */
+  CompletableFuture<List<TutorialDto>> getAllTutorialsAsync();
+
+  /**
+   * Finds tutorials whose title contains the given text (case-insensitive) as DTOs.
+   *
+   * @param text the text to search for
+   * @return future of the list of matching tutorials
+   * @see TutorialQueryService#findByTitleContaining(String)
+   */
+  CompletableFuture<List<TutorialDto>> findByTitleContainingAsync(String text);
+
+  /**
+   * Finds tutorials whose description contains the given text (case-insensitive) as DTOs.
+   *
+   * @param text the text to search for
+   * @return future of the list of matching tutorials
+   * @see TutorialQueryService#findByDescriptionContaining(String)
+   */
+  CompletableFuture<List<TutorialDto>> findByDescriptionContainingAsync(String text);
+
+  /**
+   * Retrieves one page of tutorials as DTOs ordered by ID.
+   *
+   * @param afterId the ID after which the page starts, {@code 0} for the first page
+   * @param limit the maximum number of tutorials in the page
+   * @return future of the page of tutorials
+   * @see TutorialQueryService#getTutorialsAfter(long, int)
+   */
+  CompletableFuture<Window<TutorialDto>> getTutorialsAfterAsync(long afterId, int limit);
+
+  /**
+   * Finds one page of tutorials whose title contains the given text (case-insensitive) as DTOs, ordered by ID.
+   *
+   * @param text the text to search for
+   * @param afterId the ID after which the page starts, {@code 0} for the first page
+   * @param limit the maximum number of tutorials in the page
+   * @return future of the page of matching tutorials
+   * @see TutorialQueryService#findByTitleContainingAfter(String, long, int)
+   */
+  CompletableFuture<Window<TutorialDto>> findByTitleContainingAfterAsync(String text, long afterId, int limit);
+
+  /**
+   * Finds one page of tutorials whose description contains the given text (case-insensitive) as DTOs,
+   * ordered by ID.
+   *
+   * @param text the text to search for
+   * @param afterId the ID after which the page starts, {@code 0} for the first page
+   * @param limit the maximum number of tutorials in the page
+   * @return future of the page of matching tutorials
+   * @see TutorialQueryService#findByDescriptionContainingAfter(String, long, int)
+   */
+  CompletableFuture<Window<TutorialDto>> findByDescriptionContainingAfterAsync(String text, long afterId, int limit);
+
+  /**
+   * Searches the most relevant tutorials for a query.
+   *
+   * @param query the search terms separated by whitespace
+   * @param limit the maximum number of tutorials to return
+   * @return future of the best matching tutorials, most relevant first
+   * @see TutorialQueryService#search(String, int)
+   */
+  CompletableFuture<List<TutorialSearchResultDto>> searchAsync(String query, int limit);
+
+  /**
+   * Counts tutorials, optionally filtered by title or description.
+   *
+   * @param title optional text the title has to contain
+   * @param description optional text the description has to contain
+   * @return future of the number of matching tutorials
+   * @see TutorialQueryService#countTutorials(String, String)
+   */
+  CompletableFuture<Long> countTutorialsAsync(String title, String description);
+
+  /**
+   * Checks whether tutorials exist, optionally filtered by title or description.
+   *
+   * @param title optional text the title has to contain
+   * @param description optional text the description has to contain
+   * @return future of {@code true} if at least one tutorial matches
+   * @see TutorialQueryService#existsTutorials(String, String)
+   */
+  CompletableFuture<Boolean> existsTutorialsAsync(String title, String description);
+
+  /**
+   * Checks whether a tutorial with the given ID exists.
+   *
+   * @param id the tutorial ID
+   * @return future of {@code true} if the tutorial exists
+   * @see TutorialQueryService#existsTutorialById(long)
+   */
+  CompletableFuture<Boolean> existsTutorialByIdAsync(long id);
+
+  /**
+   * Retrieves the tutorials changed and deleted since the given revision.
+   *
+   * @param sinceRevision the revision the client has already caught up to, {@code 0} for all tutorials
+   * @param afterId the last ID read of {@code sinceRevision}, {@code null} if it has been read completely
+   * @param limit the maximum number of changed and deleted tutorials
+   * @return future of the changes and the position to continue from
+   * @see TutorialQueryService#getChangesSince(long, Long, int)
+   */
+  CompletableFuture<TutorialDeltaDto> getChangesSinceAsync(long sinceRevision, Long afterId, int limit);
+}
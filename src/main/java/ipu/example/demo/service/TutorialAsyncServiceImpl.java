@@ -0,0 +1,182 @@
+package ipu.example.demo.service;
+
+import ipu.example.demo.config.AsyncConfig;
+import ipu.example.demo.dto.TutorialDeltaDto;
+import ipu.example.demo.dto.TutorialDto;
+import ipu.example.demo.dto.TutorialSearchResultDto;
+import ipu.example.demo.model.ServiceException;
+import ipu.example.demo.model.Tutorial;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.data.domain.Window;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service implementation running the read operations of the {@link TutorialService} and the
+ * {@link TutorialQueryService} on the {@value AsyncConfig#TUTORIAL_EXECUTOR} executor.
+ */
+@Service
+@Async(AsyncConfig.TUTORIAL_EXECUTOR)
+public class TutorialAsyncServiceImpl implements TutorialAsyncService {
+
+  /** Service performing the operations. */
+  private final TutorialService tutorialService;
+
+  /** Service performing the DTO queries. */
+  private final TutorialQueryService tutorialQueryService;
+
+  /**
+   * Constructor injecting the {@link TutorialService} and the {@link TutorialQueryService}.
+   *
+   * @param tutorialService the service performing the operations
+   * @param tutorialQueryService the service performing the DTO queries
+   */
+  public TutorialAsyncServiceImpl(TutorialService tutorialService, TutorialQueryService tutorialQueryService) {
+    this.tutorialService = tutorialService;
+    this.tutorialQueryService = tutorialQueryService;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Optional<Tutorial>> getTutorialByIdAsync(long id) {
+    return CompletableFuture.completedFuture(tutorialService.getTutorialById(id));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<List<Optional<Tutorial>>> getTutorialsByIdsAsync(List<Long> ids) {
+    return CompletableFuture.completedFuture(tutorialService.getTutorialsByIds(ids));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<List<TutorialDto>> getAllTutorialsAsync() {
+    return CompletableFuture.completedFuture(tutorialQueryService.getAllTutorials());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<List<TutorialDto>> findByTitleContainingAsync(String text) {
+    try {
+      return CompletableFuture.completedFuture(tutorialQueryService.findByTitleContaining(text));
+    } catch (ServiceException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<List<TutorialDto>> findByDescriptionContainingAsync(String text) {
+    try {
+      return CompletableFuture.completedFuture(tutorialQueryService.findByDescriptionContaining(text));
+    } catch (ServiceException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Window<TutorialDto>> getTutorialsAfterAsync(long afterId, int limit) {
+    try {
+      return CompletableFuture.completedFuture(tutorialQueryService.getTutorialsAfter(afterId, limit));
+    } catch (ServiceException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Window<TutorialDto>> findByTitleContainingAfterAsync(String text, long afterId, int limit) {
+    try {
+      return CompletableFuture.completedFuture(tutorialQueryService.findByTitleContainingAfter(text, afterId, limit));
+    } catch (ServiceException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Window<TutorialDto>> findByDescriptionContainingAfterAsync(String text,
+      long afterId, int limit) {
+    try {
+      return CompletableFuture.completedFuture(
+          tutorialQueryService.findByDescriptionContainingAfter(text, afterId, limit));
+    } catch (ServiceException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<List<TutorialSearchResultDto>> searchAsync(String query, int limit) {
+    try {
+      return CompletableFuture.completedFuture(tutorialQueryService.search(query, limit));
+    } catch (ServiceException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Long> countTutorialsAsync(String title, String description) {
+    try {
+      return CompletableFuture.completedFuture(tutorialQueryService.countTutorials(title, description));
+    } catch (ServiceException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Boolean> existsTutorialsAsync(String title, String description) {
+    try {
+      return CompletableFuture.completedFuture(tutorialQueryService.existsTutorials(title, description));
+    } catch (ServiceException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Boolean> existsTutorialByIdAsync(long id) {
+    return CompletableFuture.completedFuture(tutorialQueryService.existsTutorialById(id));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<TutorialDeltaDto> getChangesSinceAsync(long sinceRevision, Long afterId, int limit) {
+    try {
+      return CompletableFuture.completedFuture(tutorialQueryService.getChangesSince(sinceRevision, afterId, limit));
+    } catch (ServiceException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+}
@@ -0,0 +1,155 @@
+package ipu.example.demo.service;
+
+import ipu.example.demo.dto.TutorialChangeDto;
+import ipu.example.demo.mapper.TutorialMapper;
+import ipu.example.demo.model.TutorialChangeEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps the latest changes of the tutorials in a fixed-size ring buffer, so consumers can follow the
+ * changes and resume after the last change they have seen.
+ * <p>
+ * Every committed {@link TutorialChangeEvent} gets the next sequence number and is stored in the slot
+ * {@code sequence mod capacity}, overwriting the change {@code capacity} sequence numbers before it.
+ * Publishing and reading do not lock: the sequence number is claimed atomically and each slot holds an
+ * immutable change carrying its sequence number, so a reader recognizes slots that are not written yet
+ * or have already been overwritten. Listeners are notified after each change; they must not block, as
+ * they run in the thread that committed the change.
+ * <p>
+ * Changes written directly through the repository are not part of the feed.
+ */
+@Component
+public class TutorialChangeFeed {
+
+  /** Mapper creating the snapshots of the changed tutorials. */
+  private final TutorialMapper tutorialMapper;
+
+  /** Number of slots, a power of two. */
+  private final int capacity;
+
+  /** The latest changes by {@code sequence & (capacity - 1)}. */
+  private final AtomicReferenceArray<TutorialChangeDto> slots;
+
+  /** Sequence number of the latest claimed slot, {@code 0} before the first change. */
+  private final AtomicLong lastSequence = new AtomicLong();
+
+  /** Callbacks notified after each change. */
+  private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+  /**
+   * Constructor injecting the {@link TutorialMapper} and the capacity.
+   *
+   * @param tutorialMapper the mapper creating the snapshots of the changed tutorials
+   * @param capacity the minimum number of changes kept, rounded up to a power of two
+   */
+  public TutorialChangeFeed(TutorialMapper tutorialMapper,
+      @Value("${ipu.example.demo.change-feed.capacity:4096}") int capacity) {
+    this.tutorialMapper = tutorialMapper;
+    this.capacity = capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    this.slots = new AtomicReferenceArray<>(this.capacity);
+  }
+
+  /**
+   * Appends a change once it has been committed and notifies the listeners.
+   *
+   * @param event the change published by the service layer
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  @Order(TutorialChangeTracker.DERIVED_STATE_ORDER)
+  public void onTutorialChange(TutorialChangeEvent event) {
+    long sequence = lastSequence.incrementAndGet();
+    slots.set(slot(sequence), TutorialChangeDto.builder()
+        .sequence(sequence)
+        .type(event.getType())
+        .id(event.getId())
+        .tutorial(event.getTutorial() == null ? null : tutorialMapper.tutorialToDto(event.getTutorial()))
+        .build());
+    listeners.forEach(Runnable::run);
+  }
+
+  /**
+   * Returns the sequence number of the latest change.
+   *
+   * @return the latest sequence number, {@code 0} if there has been no change since startup
+   */
+  public long getLastSequence() {
+    return lastSequence.get();
+  }
+
+  /**
+   * Returns the sequence number of the oldest change still kept.
+   *
+   * @return the oldest sequence number that can be read
+   */
+  public long getOldestSequence() {
+    return Math.max(1L, lastSequence.get() - capacity + 1);
+  }
+
+  /**
+   * Reads the changes following the given sequence number, in order and without gaps.
+   * Reading stops at the first change that is not written yet or has already been overwritten.
+   *
+   * @param afterSequence the sequence number of the last change seen, {@code 0} to start with the first one
+   * @param limit the maximum number of changes to read
+   * @return the changes with sequence numbers {@code afterSequence + 1}, {@code afterSequence + 2}, ...
+   */
+  public List<TutorialChangeDto> readAfter(long afterSequence, int limit) {
+    List<TutorialChangeDto> changes = new ArrayList<>();
+    for (long sequence = afterSequence + 1; changes.size() < limit; sequence++) {
+      TutorialChangeDto change = slots.get(slot(sequence));
+      if (change == null || change.getSequence() != sequence) {
+        break;
+      }
+      changes.add(change);
+    }
+    return changes;
+  }
+
+  /**
+   * Checks whether the slot following the given sequence number has been written since that change,
+   * either with the next change or with a later one overwriting it.
+   *
+   * @param afterSequence the sequence number of the last change seen
+   * @return {@code true} if there is something new to read after the given sequence number
+   */
+  public boolean hasChangesAfter(long afterSequence) {
+    TutorialChangeDto change = slots.get(slot(afterSequence + 1));
+    return change != null && change.getSequence() > afterSequence;
+  }
+
+  /**
+   * Registers a callback notified after each change.
+   *
+   * @param listener the non-blocking callback
+   */
+  public void addListener(Runnable listener) {
+    listeners.add(listener);
+  }
+
+  /**
+   * Removes a callback registered by {@link #addListener(Runnable)}.
+   *
+   * @param listener the callback
+   */
+  public void removeListener(Runnable listener) {
+    listeners.remove(listener);
+  }
+
+  /**
+   * Returns the slot of a sequence number.
+   *
+   * @param sequence the sequence number
+   * @return the index of the slot
+   */
+  private int slot(long sequence) {
+    return (int) (sequence & (capacity - 1));
+  }
+}
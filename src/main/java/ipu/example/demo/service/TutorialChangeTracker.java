@@ -0,0 +1,67 @@
+package ipu.example.demo.service;
+
+import ipu.example.demo.model.TutorialChangeEvent;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Tracks a generation counter of the tutorial data, incremented with every change made through the
+ * {@link TutorialService}.
+ * <p>
+ * Any result derived from the tutorials (e.g. a list response) stays valid as long as the generation
+ * has not changed, which allows validating such results without querying the database. The epoch is
+ * chosen randomly at startup, so generations of different application runs cannot be mixed up.
+ * Changes written directly through the repository are not tracked.
+ * <p>
+ * The generation is advanced after all listeners maintaining state derived from the tutorials (search index,
+ * title suggestions, change feed) have applied a change, which are ordered by {@link #DERIVED_STATE_ORDER}.
+ * A result computed for a generation therefore never misses a change of that generation.
+ */
+@Component
+public class TutorialChangeTracker {
+
+  /**
+   * Order of the listeners of {@link TutorialChangeEvent}s maintaining derived state, which run before
+   * the generation is advanced.
+   */
+  public static final int DERIVED_STATE_ORDER = Ordered.LOWEST_PRECEDENCE - 1;
+
+  /** Random value identifying this application run. */
+  private final long epoch = ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE;
+
+  /** Number of changes since startup. */
+  private final AtomicLong generation = new AtomicLong();
+
+  /**
+   * Returns the random value identifying this application run.
+   *
+   * @return the epoch
+   */
+  public long getEpoch() {
+    return epoch;
+  }
+
+  /**
+   * Returns the current generation of the tutorial data.
+   *
+   * @return the number of changes since startup
+   */
+  public long getGeneration() {
+    return generation.get();
+  }
+
+  /**
+   * Advances the generation once a change has been committed and applied to all derived state.
+   *
+   * @param event the change published by the service layer
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  @Order(Ordered.LOWEST_PRECEDENCE)
+  public void onTutorialChange(TutorialChangeEvent event) {
+    generation.incrementAndGet();
+  }
+}
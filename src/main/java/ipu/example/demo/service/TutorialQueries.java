@@ -0,0 +1,45 @@
+package ipu.example.demo.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+/**
+ * Helpers shared by the services reading tutorials as entities and as DTO projections.
+ */
+final class TutorialQueries {
+
+  private TutorialQueries() {
+  }
+
+  /**
+   * Checks whether searches can be answered by the in-memory index.
+   *
+   * @param searchIndex the search index, {@code null} if it is disabled
+   * @return {@code true} if the index is enabled and has been built
+   */
+  static boolean isSearchIndexReady(TutorialSearchIndex searchIndex) {
+    return searchIndex != null && searchIndex.isReady();
+  }
+
+  /**
+   * Wraps a keyset query result into a {@link Window}.
+   * <p>
+   * The query is expected to fetch one row more than the page size; that row only signals
+   * that a further page exists and is not part of the returned window.
+   *
+   * @param rows the rows fetched with a limit of {@code limit + 1}
+   * @param limit the page size
+   * @param id the function returning the ID of a row, which is the keyset of the scroll positions
+   * @param <T> the type of the rows
+   * @return the window containing at most {@code limit} tutorials
+   */
+  static <T> Window<T> toWindow(List<T> rows, int limit, Function<? super T, Long> id) {
+    boolean hasNext = rows.size() > limit;
+    List<T> content = hasNext ? rows.subList(0, limit) : rows;
+    return Window.from(content,
+        index -> ScrollPosition.forward(Map.of("id", id.apply(content.get(index)))), hasNext);
+  }
+}
@@ -0,0 +1,130 @@
+package ipu.example.demo.service;
+
+import ipu.example.demo.dto.TutorialDeltaDto;
+import ipu.example.demo.dto.TutorialDto;
+import ipu.example.demo.dto.TutorialSearchResultDto;
+import ipu.example.demo.model.ServiceException;
+import java.util.List;
+import org.springframework.data.domain.Window;
+
+/**
+ * Service interface for reading tutorials directly as {@link TutorialDto}s.
+ * <p>
+ * Unlike the {@link TutorialService}, the tutorials are projected into DTOs by the queries, without
+ * loading managed entities and mapping them afterwards. Intended for read-only list and search requests.
+ */
+public interface TutorialQueryService {
+
+  /**
+   * Retrieves all tutorials ordered by ID.
+   *
+   * @return a list of all tutorials
+   */
+  List<TutorialDto> getAllTutorials();
+
+  /**
+   * Finds tutorials whose title contains the given text (case-insensitive).
+   *
+   * @param text the text to search for
+   * @return a list of matching tutorials
+   * @throws ServiceException if any error occurs during the search
+   */
+  List<TutorialDto> findByTitleContaining(String text) throws ServiceException;
+
+  /**
+   * Finds tutorials whose description contains the given text (case-insensitive).
+   *
+   * @param text the text to search for
+   * @return a list of matching tutorials
+   * @throws ServiceException if any error occurs during the search
+   */
+  List<TutorialDto> findByDescriptionContaining(String text) throws ServiceException;
+
+  /**
+   * Retrieves a page of tutorials ordered by ID, starting after the given ID.
+   *
+   * @param afterId the ID of the last tutorial of the previous page, {@code 0} for the first page
+   * @param limit the maximum number of tutorials in the page
+   * @return the page of tutorials
+   * @throws ServiceException if any error occurs during retrieval
+   */
+  Window<TutorialDto> getTutorialsAfter(long afterId, int limit) throws ServiceException;
+
+  /**
+   * Finds a page of tutorials whose title contains the given text (case-insensitive), ordered by ID.
+   *
+   * @param text the text to search for
+   * @param afterId the ID of the last tutorial of the previous page, {@code 0} for the first page
+   * @param limit the maximum number of tutorials in the page
+   * @return the page of matching tutorials
+   * @throws ServiceException if any error occurs during the search
+   */
+  Window<TutorialDto> findByTitleContainingAfter(String text, long afterId, int limit) throws ServiceException;
+
+  /**
+   * Finds a page of tutorials whose description contains the given text (case-insensitive), ordered by ID.
+   *
+   * @param text the text to search for
+   * @param afterId the ID of the last tutorial of the previous page, {@code 0} for the first page
+   * @param limit the maximum number of tutorials in the page
+   * @return the page of matching tutorials
+   * @throws ServiceException if any error occurs during the search
+   */
+  Window<TutorialDto> findByDescriptionContainingAfter(String text, long afterId, int limit) throws ServiceException;
+
+  /**
+   * Searches tutorials whose title or description contains each term of the query (case-insensitive)
+   * and returns the most relevant ones. Title matches rank higher than description matches,
+   * titles and words starting with a term rank higher than other matches.
+   *
+   * @param query the search terms separated by whitespace
+   * @param limit the maximum number of tutorials to return
+   * @return the best matching tutorials, most relevant first
+   * @throws ServiceException if any error occurs during the search
+   */
+  List<TutorialSearchResultDto> search(String query, int limit) throws ServiceException;
+
+  /**
+   * Counts tutorials, optionally filtered like the list of tutorials.
+   * If both filters are given, the title filter is applied.
+   *
+   * @param title optional text the title has to contain (case-insensitive)
+   * @param description optional text the description has to contain (case-insensitive)
+   * @return the number of matching tutorials
+   * @throws ServiceException if any error occurs while counting
+   */
+  long countTutorials(String title, String description) throws ServiceException;
+
+  /**
+   * Checks whether tutorials exist, optionally filtered like the list of tutorials.
+   * If both filters are given, the title filter is applied.
+   *
+   * @param title optional text the title has to contain (case-insensitive)
+   * @param description optional text the description has to contain (case-insensitive)
+   * @return {@code true} if at least one tutorial matches
+   * @throws ServiceException if any error occurs during the check
+   */
+  boolean existsTutorials(String title, String description) throws ServiceException;
+
+  /**
+   * Checks whether a tutorial with the given ID exists, without loading it.
+   *
+   * @param id the tutorial ID
+   * @return {@code true} if the tutorial exists
+   */
+  boolean existsTutorialById(long id);
+
+  /**
+   * Retrieves the tutorials changed and deleted since the given position {@code (sinceRevision, afterId)}.
+   * <p>
+   * A page holds at most {@code limit} tutorials. If a revision affects more tutorials, it is split across
+   * pages and the returned {@code afterId} marks the position within the revision.
+   *
+   * @param sinceRevision the revision the client has already caught up to, {@code 0} for all tutorials
+   * @param afterId the last ID read of {@code sinceRevision}, {@code null} if it has been read completely
+   * @param limit the maximum number of changed and deleted tutorials
+   * @return the changes and the position to continue from
+   * @throws ServiceException if any error occurs while reading the changes
+   */
+  TutorialDeltaDto getChangesSince(long sinceRevision, Long afterId, int limit) throws ServiceException;
+}
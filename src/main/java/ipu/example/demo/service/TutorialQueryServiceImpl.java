@@ -0,0 +1,384 @@
+package ipu.example.demo.service;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import ipu.example.demo.config.MetricsConfig;
+import ipu.example.demo.dto.TutorialDeltaDto;
+import ipu.example.demo.dto.TutorialDto;
+import ipu.example.demo.dto.TutorialSearchResultDto;
+import ipu.example.demo.mapper.TutorialMapper;
+import ipu.example.demo.model.ServiceException;
+import ipu.example.demo.model.Tutorial;
+import ipu.example.demo.repository.TutorialRepository;
+import ipu.example.demo.repository.TutorialRevisions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service implementation reading tutorials as DTO projections.
+ * <p>
+ * All methods run in read-only transactions, so Hibernate does not flush and keeps no snapshots.
+ * The queries select the DTO properties only; no entities are loaded into the persistence context.
+ * Title and description searches are answered by the {@link TutorialSearchIndex} if it is enabled and built.
+ * <p>
+ * Concurrent identical calls of {@link #getAllTutorials()}, {@link #findByTitleContaining(String)} and
+ * {@link #findByDescriptionContaining(String)} share one query and its result. The calls are keyed by the
+ * generation of the {@link TutorialChangeTracker}, which advances before a write through the service returns,
+ * so a caller arriving after a write never joins a query started before it. These methods run without a
+ * transaction of their own, so waiting callers hold neither a database connection nor a permit of the
+ * database bulkhead; the number of callers served by another caller's query is counted in
+ * {@value #COALESCED_COUNTER}.
+ */
+@Service
+@Transactional(readOnly = true)
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+public class TutorialQueryServiceImpl implements TutorialQueryService {
+
+  /** Name of the counter of the calls answered by the query of a concurrent identical call. */
+  public static final String COALESCED_COUNTER = "tutorial.query.coalesced";
+
+  /**
+   * Key of a coalesced list query.
+   *
+   * @param operation the name of the query
+   * @param text the search text, {@code null} for all tutorials
+   * @param generation the generation of the tutorial data when the call arrived
+   */
+  private record QueryKey(String operation, String text, long generation) {
+  }
+
+  /** Repository used for querying Tutorial data. */
+  private final TutorialRepository tutorialRepository;
+
+  /** Mapper converting the results of the search index. */
+  private final TutorialMapper tutorialMapper;
+
+  /** Optional in-memory index answering title and description searches, {@code null} if disabled. */
+  private final TutorialSearchIndex searchIndex;
+
+  /** Allocator of the revisions, providing the revision up to which all writes are complete. */
+  private final TutorialRevisions revisions;
+
+  /** Tracker of the data generation keying the coalesced queries. */
+  private final TutorialChangeTracker changeTracker;
+
+  /** Queries in progress shared by concurrent identical calls. */
+  private final TutorialSingleFlight<List<TutorialDto>> listQueries;
+
+  /**
+   * Constructor injecting the {@link TutorialRepository}.
+   *
+   * @param tutorialRepository the repository for tutorial queries
+   * @param tutorialMapper the mapper converting the results of the search index
+   * @param searchIndex provider of the optional {@link TutorialSearchIndex}
+   * @param revisions the allocator of the revisions
+   * @param changeTracker the tracker of the data generation keying the coalesced queries
+   * @param meterRegistry the registry recording the coalesced calls
+   */
+  public TutorialQueryServiceImpl(TutorialRepository tutorialRepository, TutorialMapper tutorialMapper,
+      ObjectProvider<TutorialSearchIndex> searchIndex, TutorialRevisions revisions,
+      TutorialChangeTracker changeTracker, MeterRegistry meterRegistry) {
+    this.tutorialRepository = tutorialRepository;
+    this.tutorialMapper = tutorialMapper;
+    this.searchIndex = searchIndex.getIfAvailable();
+    this.revisions = revisions;
+    this.changeTracker = changeTracker;
+    this.listQueries = new TutorialSingleFlight<>(Counter.builder(COALESCED_COUNTER)
+        .description("Calls answered by the query of a concurrent identical call")
+        .register(meterRegistry));
+  }
+
+  /**
+   * Retrieves all tutorials ordered by ID, sharing the query with concurrent identical calls.
+   *
+   * @return a list of all tutorials, shared with concurrent callers and not to be modified
+   */
+  @Override
+  @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+  public List<TutorialDto> getAllTutorials() {
+    return listQueries.execute(new QueryKey("all", null, changeTracker.getGeneration()),
+        () -> tutorialRepository.findAllByOrderByIdAsc(TutorialDto.class));
+  }
+
+  /**
+   * Finds tutorials whose title contains the specified text, sharing the search with concurrent identical calls.
+   *
+   * @param text the text to search for in the title
+   * @return a list of matching tutorials, shared with concurrent callers and not to be modified
+   * @throws ServiceException if an internal error occurs during search
+   */
+  @Override
+  @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+  public List<TutorialDto> findByTitleContaining(String text) throws ServiceException {
+    return listQueries.execute(new QueryKey("title", text, changeTracker.getGeneration()), () -> {
+      try {
+        if (TutorialQueries.isSearchIndexReady(searchIndex)) {
+          return tutorialMapper.tutorialsToDtos(searchIndex.findByTitleContaining(text));
+        }
+        return tutorialRepository.findByTitleContainingIgnoreCase(text, TutorialDto.class);
+      } catch (Exception ex) {
+        throw new ServiceException("Internal error while searching by title", ex);
+      }
+    });
+  }
+
+  /**
+   * Finds tutorials whose description contains the specified text, sharing the search with concurrent
+   * identical calls.
+   *
+   * @param text the text to search for in the description
+   * @return a list of matching tutorials, shared with concurrent callers and not to be modified
+   * @throws ServiceException if an internal error occurs during search
+   */
+  @Override
+  @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+  public List<TutorialDto> findByDescriptionContaining(String text) throws ServiceException {
+    return listQueries.execute(new QueryKey("description", text, changeTracker.getGeneration()), () -> {
+      try {
+        if (TutorialQueries.isSearchIndexReady(searchIndex)) {
+          return tutorialMapper.tutorialsToDtos(searchIndex.findByDescriptionContaining(text));
+        }
+        return tutorialRepository.findByDescriptionContainingIgnoreCase(text, TutorialDto.class);
+      } catch (Exception ex) {
+        throw new ServiceException("Internal error while searching by description", ex);
+      }
+    });
+  }
+
+  /**
+   * Retrieves a page of tutorials following the given ID.
+   *
+   * @param afterId the last ID of the previous page, or {@code 0} for the first page
+   * @param limit the maximum number of tutorials in the page
+   * @return a {@link Window} with the tutorials of the page
+   * @throws ServiceException if an internal error occurs during retrieval
+   */
+  @Override
+  public Window<TutorialDto> getTutorialsAfter(long afterId, int limit) throws ServiceException {
+    try {
+      return TutorialQueries.toWindow(tutorialRepository.findByIdGreaterThanOrderByIdAsc(afterId,
+          Limit.of(limit + 1), TutorialDto.class), limit, TutorialDto::getId);
+    } catch (Exception ex) {
+      throw new ServiceException("Internal error while retrieving a page of tutorials", ex);
+    }
+  }
+
+  /**
+   * Finds a page of tutorials whose title contains the specified text, following the given ID.
+   *
+   * @param text the text to search for in the title
+   * @param afterId the last ID of the previous page, or {@code 0} for the first page
+   * @param limit the maximum number of tutorials in the page
+   * @return a {@link Window} with the matching tutorials of the page
+   * @throws ServiceException if an internal error occurs during search
+   */
+  @Override
+  public Window<TutorialDto> findByTitleContainingAfter(String text, long afterId, int limit)
+      throws ServiceException {
+    try {
+      return TutorialQueries.toWindow(tutorialRepository.findByTitleContainingIgnoreCaseAndIdGreaterThanOrderByIdAsc(
+          text, afterId, Limit.of(limit + 1), TutorialDto.class), limit, TutorialDto::getId);
+    } catch (Exception ex) {
+      throw new ServiceException("Internal error while searching by title", ex);
+    }
+  }
+
+  /**
+   * Finds a page of tutorials whose description contains the specified text, following the given ID.
+   *
+   * @param text the text to search for in the description
+   * @param afterId the last ID of the previous page, or {@code 0} for the first page
+   * @param limit the maximum number of tutorials in the page
+   * @return a {@link Window} with the matching tutorials of the page
+   * @throws ServiceException if an internal error occurs during search
+   */
+  @Override
+  public Window<TutorialDto> findByDescriptionContainingAfter(String text, long afterId, int limit)
+      throws ServiceException {
+    try {
+      return TutorialQueries.toWindow(
+          tutorialRepository.findByDescriptionContainingIgnoreCaseAndIdGreaterThanOrderByIdAsc(
+              text, afterId, Limit.of(limit + 1), TutorialDto.class), limit, TutorialDto::getId);
+    } catch (Exception ex) {
+      throw new ServiceException("Internal error while searching by description", ex);
+    }
+  }
+
+  /**
+   * Searches tutorials matching each term of the query and returns the most relevant ones.
+   * <p>
+   * The candidates matching the longest term are fetched from the search index if it is built, otherwise
+   * streamed from the database. They are ranked by {@link TutorialRanking}, which only keeps the best
+   * {@code limit} tutorials, so neither the full match set is sorted nor held in memory.
+   *
+   * @param query the search terms separated by whitespace
+   * @param limit the maximum number of tutorials to return
+   * @return the best matching tutorials, most relevant first
+   * @throws ServiceException if an internal error occurs during search
+   */
+  @Override
+  public List<TutorialSearchResultDto> search(String query, int limit) throws ServiceException {
+    TutorialRanking ranking = new TutorialRanking(query, limit);
+    String term = ranking.candidateTerm();
+    if (term == null) {
+      return List.of();
+    }
+    try {
+      if (TutorialQueries.isSearchIndexReady(searchIndex)) {
+        rankIndexed(ranking, searchIndex.findByTitleContaining(term), searchIndex.findByDescriptionContaining(term));
+      } else {
+        try (Stream<TutorialDto> candidates = tutorialRepository
+            .streamByTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase(term, term, TutorialDto.class)) {
+          candidates.forEach(ranking::offer);
+        }
+      }
+      return ranking.results();
+    } catch (Exception ex) {
+      throw new ServiceException("Internal error while searching tutorials", ex);
+    }
+  }
+
+  /**
+   * Counts tutorials with a {@code COUNT} query, optionally filtered by title or description.
+   *
+   * @param title optional text the title has to contain
+   * @param description optional text the description has to contain
+   * @return the number of matching tutorials
+   * @throws ServiceException if an internal error occurs while counting
+   */
+  @Override
+  public long countTutorials(String title, String description) throws ServiceException {
+    try {
+      if (StringUtils.isNotEmpty(title)) {
+        return tutorialRepository.countByTitleContainingIgnoreCase(title);
+      } else if (StringUtils.isNotEmpty(description)) {
+        return tutorialRepository.countByDescriptionContainingIgnoreCase(description);
+      }
+      return tutorialRepository.count();
+    } catch (Exception ex) {
+      throw new ServiceException("Internal error while counting tutorials", ex);
+    }
+  }
+
+  /**
+   * Checks with a query stopping at the first row whether tutorials exist, optionally filtered by title
+   * or description.
+   *
+   * @param title optional text the title has to contain
+   * @param description optional text the description has to contain
+   * @return {@code true} if at least one tutorial matches
+   * @throws ServiceException if an internal error occurs during the check
+   */
+  @Override
+  public boolean existsTutorials(String title, String description) throws ServiceException {
+    try {
+      if (StringUtils.isNotEmpty(title)) {
+        return tutorialRepository.existsByTitleContainingIgnoreCase(title);
+      } else if (StringUtils.isNotEmpty(description)) {
+        return tutorialRepository.existsByDescriptionContainingIgnoreCase(description);
+      }
+      return tutorialRepository.existsByIdNotNull();
+    } catch (Exception ex) {
+      throw new ServiceException("Internal error while checking for tutorials", ex);
+    }
+  }
+
+  /**
+   * Checks whether a tutorial with the given ID exists, without loading it.
+   *
+   * @param id the tutorial ID
+   * @return {@code true} if the tutorial exists
+   */
+  @Override
+  public boolean existsTutorialById(long id) {
+    return tutorialRepository.existsById(id);
+  }
+
+  /**
+   * Retrieves the tutorials changed and deleted since the given position with one keyset query on the
+   * {@code (revision, id)} index.
+   * <p>
+   * Only revisions up to the {@link TutorialRevisions#getHighWaterMark() high-water mark} are read, so a
+   * change committed later always gets a revision above the one returned. One row more than the limit is
+   * fetched to detect further changes. If it belongs to the same revision as the last row of the page, the
+   * page ends within that revision and the ID of its last row is returned as {@code afterId}; no revision
+   * is held to one page, so a deletion of the whole catalogue is paged like any other change.
+   *
+   * @param sinceRevision the revision the client has already caught up to, {@code 0} for all tutorials
+   * @param afterId the last ID read of {@code sinceRevision}, {@code null} if it has been read completely
+   * @param limit the maximum number of changed and deleted tutorials
+   * @return the changes and the position to continue from
+   * @throws ServiceException if an internal error occurs while reading the changes
+   */
+  @Override
+  public TutorialDeltaDto getChangesSince(long sinceRevision, Long afterId, int limit) throws ServiceException {
+    try {
+      long highWaterMark = revisions.getHighWaterMark();
+      List<Tutorial> rows = tutorialRepository.findWrittenAfter(sinceRevision,
+          afterId == null ? Long.MAX_VALUE : afterId, highWaterMark, limit + 1);
+      long revision = highWaterMark;
+      Long nextAfterId = null;
+      boolean hasMore = rows.size() > limit;
+      if (hasMore) {
+        Tutorial last = rows.get(limit - 1);
+        revision = last.getRevision();
+        if (rows.get(limit).getRevision() == revision) {
+          nextAfterId = last.getId();
+        }
+        rows = rows.subList(0, limit);
+      }
+      List<TutorialDto> changed = new ArrayList<>();
+      List<Long> deleted = new ArrayList<>();
+      for (Tutorial tutorial : rows) {
+        if (tutorial.isDeleted()) {
+          deleted.add(tutorial.getId());
+        } else {
+          changed.add(tutorialMapper.tutorialToDto(tutorial));
+        }
+      }
+      return TutorialDeltaDto.builder()
+          .changed(changed)
+          .deleted(deleted)
+          .revision(Math.max(revision, sinceRevision))
+          .afterId(nextAfterId)
+          .hasMore(hasMore)
+          .build();
+    } catch (Exception ex) {
+      throw new ServiceException("Internal error while reading tutorial changes", ex);
+    }
+  }
+
+  /**
+   * Ranks the union of the title and description matches of the search index.
+   *
+   * @param ranking the ranking to offer the candidates to
+   * @param titleMatches the tutorials whose title matches, ordered by ID
+   * @param descriptionMatches the tutorials whose description matches, ordered by ID
+   */
+  private void rankIndexed(TutorialRanking ranking, List<Tutorial> titleMatches, List<Tutorial> descriptionMatches) {
+    int i = 0;
+    int j = 0;
+    while (i < titleMatches.size() || j < descriptionMatches.size()) {
+      Tutorial next;
+      if (j == descriptionMatches.size()
+          || i < titleMatches.size() && titleMatches.get(i).getId() <= descriptionMatches.get(j).getId()) {
+        next = titleMatches.get(i++);
+        if (j < descriptionMatches.size() && descriptionMatches.get(j).getId().equals(next.getId())) {
+          j++;
+        }
+      } else {
+        next = descriptionMatches.get(j++);
+      }
+      ranking.offer(tutorialMapper.tutorialToDto(next));
+    }
+  }
+}
@@ -0,0 +1,178 @@
+package ipu.example.demo.service;
+
+import ipu.example.demo.dto.TutorialDto;
+import ipu.example.demo.dto.TutorialSearchResultDto;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+
+/**
+ * Scores tutorials for a search query and keeps the best {@code limit} of them.
+ * <p>
+ * A tutorial matches if each term of the query is contained in its title or description (ignoring case).
+ * Per term, a title match scores {@value #TITLE_MATCH}, a description match {@value #DESCRIPTION_MATCH};
+ * a title starting with the term adds {@value #TITLE_PREFIX_BONUS}, a word of the title starting with it
+ * {@value #WORD_PREFIX_BONUS}. Ties are ordered by ID.
+ * <p>
+ * Only the best tutorials are kept in a bounded heap, so ranking {@code n} candidates takes
+ * {@code O(n log limit)} time and {@code O(limit)} memory. Instances are not thread-safe.
+ */
+final class TutorialRanking {
+
+  /** Score of a term contained in the title. */
+  static final int TITLE_MATCH = 4;
+
+  /** Score of a term contained in the description. */
+  static final int DESCRIPTION_MATCH = 1;
+
+  /** Bonus for a title starting with a term. */
+  static final int TITLE_PREFIX_BONUS = 3;
+
+  /** Bonus for a word of the title starting with a term. */
+  static final int WORD_PREFIX_BONUS = 1;
+
+  /** Orders results from worst to best: lower score first, on equal score higher ID first. */
+  private static final Comparator<TutorialSearchResultDto> WORST_FIRST =
+      Comparator.comparingInt(TutorialSearchResultDto::getScore)
+          .thenComparing(TutorialSearchResultDto::getId, Comparator.reverseOrder());
+
+  private final String[] terms;
+  private final int limit;
+  private final PriorityQueue<TutorialSearchResultDto> best;
+
+  /**
+   * Creates a ranking for the given query.
+   *
+   * @param query the search query, terms are separated by whitespace
+   * @param limit the maximum number of results to keep
+   */
+  TutorialRanking(String query, int limit) {
+    this.terms = terms(query);
+    this.limit = limit;
+    this.best = new PriorityQueue<>(limit + 1, WORST_FIRST);
+  }
+
+  /**
+   * Splits a query into distinct lower case terms.
+   *
+   * @param query the search query
+   * @return the terms, longest first
+   */
+  static String[] terms(String query) {
+    return Arrays.stream(query.trim().toLowerCase(Locale.ROOT).split("\\s+"))
+        .filter(term -> !term.isEmpty())
+        .distinct()
+        .sorted(Comparator.comparingInt(String::length).reversed())
+        .toArray(String[]::new);
+  }
+
+  /**
+   * Returns the most selective term of the query, used to fetch the candidates.
+   *
+   * @return the longest term, {@code null} if the query has no terms
+   */
+  String candidateTerm() {
+    return terms.length == 0 ? null : terms[0];
+  }
+
+  /**
+   * Scores a candidate and keeps it if it is among the best so far.
+   *
+   * @param tutorial the candidate
+   */
+  void offer(TutorialDto tutorial) {
+    int score = score(tutorial.getTitle(), tutorial.getDescription());
+    if (score == 0) {
+      return;
+    }
+    if (best.size() == limit) {
+      TutorialSearchResultDto worst = best.peek();
+      if (score < worst.getScore() || score == worst.getScore() && tutorial.getId() > worst.getId()) {
+        return;
+      }
+    }
+    best.add(TutorialSearchResultDto.builder()
+        .id(tutorial.getId())
+        .title(tutorial.getTitle())
+        .description(tutorial.getDescription())
+        .score(score)
+        .build());
+    if (best.size() > limit) {
+      best.poll();
+    }
+  }
+
+  /**
+   * Returns the kept results.
+   *
+   * @return the best results, best first
+   */
+  List<TutorialSearchResultDto> results() {
+    List<TutorialSearchResultDto> results = new ArrayList<>(best);
+    results.sort(WORST_FIRST.reversed());
+    return results;
+  }
+
+  /**
+   * Scores a tutorial for the terms of the query.
+   *
+   * @param title the title of the tutorial, may be {@code null}
+   * @param description the description of the tutorial, may be {@code null}
+   * @return the score, {@code 0} if a term is neither contained in the title nor in the description
+   */
+  private int score(String title, String description) {
+    String normalizedTitle = title == null ? "" : title.toLowerCase(Locale.ROOT);
+    String normalizedDescription = description == null ? "" : description.toLowerCase(Locale.ROOT);
+    int score = 0;
+    for (String term : terms) {
+      int termScore = 0;
+      int index = normalizedTitle.indexOf(term);
+      if (index >= 0) {
+        termScore += TITLE_MATCH;
+        if (index == 0) {
+          termScore += TITLE_PREFIX_BONUS;
+        } else if (hasWordStartingWith(normalizedTitle, term)) {
+          termScore += WORD_PREFIX_BONUS;
+        }
+      }
+      if (normalizedDescription.contains(term)) {
+        termScore += DESCRIPTION_MATCH;
+      }
+      if (termScore == 0) {
+        return 0;
+      }
+      score += termScore;
+    }
+    return score;
+  }
+
+  /**
+   * Checks whether a word after the start of the text starts with the term.
+   *
+   * @param text the normalized text
+   * @param term the term contained in the text
+   * @return {@code true} if an occurrence of the term starts a word
+   */
+  private static boolean hasWordStartingWith(String text, String term) {
+    for (int index = text.indexOf(term, 1); index > 0; index = text.indexOf(term, index + 1)) {
+      if (isWordStart(text, index)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Checks whether the character at the given index starts a word.
+   *
+   * @param text the text
+   * @param index the index within the text
+   * @return {@code true} if the character follows a character that is neither a letter nor a digit
+   */
+  private static boolean isWordStart(String text, int index) {
+    return !Character.isLetterOrDigit(text.charAt(index - 1));
+  }
+}
@@ -0,0 +1,427 @@
+package ipu.example.demo.service;
+
+import ipu.example.demo.model.Tutorial;
+import ipu.example.demo.model.TutorialChangeEvent;
+import ipu.example.demo.repository.TutorialRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory trigram index over {@link Tutorial#getTitle()} and {@link Tutorial#getDescription()}.
+ * <p>
+ * Answers case insensitive substring searches without querying the database. Every tutorial is
+ * stored as an internal document number; for each field and each trigram (three consecutive
+ * lower-cased characters) a posting list of document numbers is kept in a primitive {@code int}
+ * array. A search intersects the posting lists of all trigrams of the search text and verifies
+ * the remaining candidates, so it returns exactly the tutorials the SQL {@code LIKE} search returns.
+ * <p>
+ * The index is rebuilt from the repository at startup and updated incrementally from
+ * {@link TutorialChangeEvent}s published by {@link TutorialService}. Changes written directly
+ * through the repository are not visible until the next {@link #rebuild()}.
+ * <p>
+ * The index is only created if {@code ipu.example.demo.search-index.enabled} is {@code true}.
+ */
+@Component
+@ConditionalOnProperty(name = "ipu.example.demo.search-index.enabled", havingValue = "true")
+public class TutorialSearchIndex {
+
+  /** Number of tutorials loaded per query while rebuilding the index. */
+  private static final int REBUILD_BATCH_SIZE = 1000;
+
+  /** Minimum number of deleted documents before the index is compacted. */
+  private static final int COMPACTION_THRESHOLD = 1024;
+
+  /** Repository the index is rebuilt from. */
+  private final TutorialRepository tutorialRepository;
+
+  /** Guards {@link #state}; searches share the read lock, changes take the write lock. */
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  /** Current content of the index. */
+  private IndexState state = new IndexState();
+
+  /** Whether the index has been built and can answer searches. */
+  private volatile boolean ready;
+
+  /**
+   * Constructor injecting the {@link TutorialRepository}.
+   *
+   * @param tutorialRepository the repository the index is rebuilt from
+   */
+  public TutorialSearchIndex(TutorialRepository tutorialRepository) {
+    this.tutorialRepository = tutorialRepository;
+  }
+
+  /**
+   * Returns whether the index has been built and can answer searches.
+   *
+   * @return {@code true} if the index is ready
+   */
+  public boolean isReady() {
+    return ready;
+  }
+
+  /**
+   * Rebuilds the index from all tutorials in the repository.
+   * <p>
+   * Tutorials are loaded in pages ordered by ID, so the rebuild does not hold the whole
+   * table in memory twice. Changes arriving during the rebuild wait for it and are applied afterwards.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    lock.writeLock().lock();
+    try {
+      IndexState newState = new IndexState();
+      long lastId = 0L;
+      List<Tutorial> batch;
+      do {
+        batch = tutorialRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(REBUILD_BATCH_SIZE));
+        for (Tutorial tutorial : batch) {
+          newState.put(tutorial);
+          lastId = tutorial.getId();
+        }
+      } while (batch.size() == REBUILD_BATCH_SIZE);
+      state = newState;
+      ready = true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Applies a change of the tutorials to the index once the change has been committed.
+   *
+   * @param event the change published by the service layer
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  @Order(TutorialChangeTracker.DERIVED_STATE_ORDER)
+  public void onTutorialChange(TutorialChangeEvent event) {
+    switch (event.getType()) {
+      case CREATED, UPDATED -> put(event.getTutorial());
+      case DELETED -> remove(event.getId());
+      case CLEARED -> clear();
+    }
+  }
+
+  /**
+   * Adds a tutorial to the index or replaces the indexed version of it.
+   *
+   * @param tutorial the tutorial to index
+   */
+  void put(Tutorial tutorial) {
+    lock.writeLock().lock();
+    try {
+      state.put(tutorial);
+      compactIfNeeded();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Removes a tutorial from the index.
+   *
+   * @param id the ID of the tutorial to remove
+   */
+  void remove(long id) {
+    lock.writeLock().lock();
+    try {
+      state.remove(id);
+      compactIfNeeded();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Compacts the index once the deleted and replaced documents outnumber the live ones,
+   * dropping their posting entries. Must be called while holding the write lock.
+   */
+  private void compactIfNeeded() {
+    if (state.deleted.cardinality() > Math.max(COMPACTION_THRESHOLD, state.docById.size())) {
+      state = state.compact();
+    }
+  }
+
+  /**
+   * Removes all tutorials from the index by replacing its content.
+   */
+  void clear() {
+    lock.writeLock().lock();
+    try {
+      state = new IndexState();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Finds tutorials whose title contains the given text, ignoring case.
+   *
+   * @param text the partial title text to search for
+   * @return copies of the matching tutorials ordered by ID
+   */
+  public List<Tutorial> findByTitleContaining(String text) {
+    lock.readLock().lock();
+    try {
+      return state.search(state.titles, state.titlePostings, normalize(text));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Finds tutorials whose description contains the given text, ignoring case.
+   *
+   * @param text the partial description text to search for
+   * @return copies of the matching tutorials ordered by ID
+   */
+  public List<Tutorial> findByDescriptionContaining(String text) {
+    lock.readLock().lock();
+    try {
+      return state.search(state.descriptions, state.descriptionPostings, normalize(text));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Normalizes a text for case insensitive matching.
+   *
+   * @param text the text to normalize, may be {@code null}
+   * @return the lower-cased text, or {@code null}
+   */
+  static String normalize(String text) {
+    return text == null ? null : text.toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Packs the three characters starting at the given position into a single trigram key.
+   *
+   * @param text the normalized text
+   * @param start the position of the first character
+   * @return the trigram key
+   */
+  private static long trigram(String text, int start) {
+    return ((long) text.charAt(start) << 32) | ((long) text.charAt(start + 1) << 16) | text.charAt(start + 2);
+  }
+
+  /**
+   * Growable, ascending list of document numbers backed by an {@code int} array.
+   */
+  private static final class PostingList {
+
+    private int[] docs = new int[4];
+    private int size;
+
+    /**
+     * Appends a document number. Document numbers are assigned in ascending order,
+     * so appending keeps the list sorted; repeated trigrams of one document are stored once.
+     *
+     * @param doc the document number
+     */
+    void add(int doc) {
+      if (size > 0 && docs[size - 1] == doc) {
+        return;
+      }
+      if (size == docs.length) {
+        docs = Arrays.copyOf(docs, size * 2);
+      }
+      docs[size++] = doc;
+    }
+  }
+
+  /**
+   * Content of the index. Not thread-safe, access is guarded by the lock of the enclosing index.
+   */
+  private static final class IndexState {
+
+    /** Indexed tutorials by document number; entries of deleted documents are {@code null}. */
+    private Tutorial[] docs = new Tutorial[16];
+
+    /** Normalized titles by document number. */
+    private String[] titles = new String[16];
+
+    /** Normalized descriptions by document number. */
+    private String[] descriptions = new String[16];
+
+    /** Number of document numbers assigned so far. */
+    private int size;
+
+    /** Document numbers of deleted or replaced tutorials. */
+    private final BitSet deleted = new BitSet();
+
+    /** Current document number of each indexed tutorial ID. */
+    private final Map<Long, Integer> docById = new HashMap<>();
+
+    /** Posting lists of the title trigrams. */
+    private final Map<Long, PostingList> titlePostings = new HashMap<>();
+
+    /** Posting lists of the description trigrams. */
+    private final Map<Long, PostingList> descriptionPostings = new HashMap<>();
+
+    /**
+     * Indexes a tutorial under a new document number, replacing a previous version of it.
+     *
+     * @param tutorial the tutorial to index
+     */
+    void put(Tutorial tutorial) {
+      remove(tutorial.getId());
+      if (size == docs.length) {
+        int capacity = size * 2;
+        docs = Arrays.copyOf(docs, capacity);
+        titles = Arrays.copyOf(titles, capacity);
+        descriptions = Arrays.copyOf(descriptions, capacity);
+      }
+      int doc = size++;
+      docs[doc] = copy(tutorial);
+      titles[doc] = normalize(tutorial.getTitle());
+      descriptions[doc] = normalize(tutorial.getDescription());
+      addTrigrams(titlePostings, titles[doc], doc);
+      addTrigrams(descriptionPostings, descriptions[doc], doc);
+      docById.put(tutorial.getId(), doc);
+    }
+
+    /**
+     * Marks the document of a tutorial as deleted. Its posting entries are dropped on compaction.
+     *
+     * @param id the ID of the tutorial
+     */
+    void remove(long id) {
+      Integer doc = docById.remove(id);
+      if (doc != null) {
+        deleted.set(doc);
+        docs[doc] = null;
+        titles[doc] = null;
+        descriptions[doc] = null;
+      }
+    }
+
+    /**
+     * Creates a new state containing only the live documents.
+     *
+     * @return the compacted state
+     */
+    IndexState compact() {
+      IndexState compacted = new IndexState();
+      for (int doc = 0; doc < size; doc++) {
+        if (docs[doc] != null) {
+          compacted.put(docs[doc]);
+        }
+      }
+      return compacted;
+    }
+
+    /**
+     * Searches the given field for documents containing the needle.
+     *
+     * @param values the normalized field values by document number
+     * @param postings the posting lists of the field
+     * @param needle the normalized search text
+     * @return copies of the matching tutorials ordered by ID
+     */
+    List<Tutorial> search(String[] values, Map<Long, PostingList> postings, String needle) {
+      List<Tutorial> result = new ArrayList<>();
+      if (needle.length() < 3) {
+        // too short for trigrams, scanning the in-memory values is still cheap
+        for (int doc = 0; doc < size; doc++) {
+          if (values[doc] != null && values[doc].contains(needle)) {
+            result.add(copy(docs[doc]));
+          }
+        }
+      } else {
+        for (int doc : candidates(postings, needle)) {
+          if (values[doc] != null && values[doc].contains(needle)) {
+            result.add(copy(docs[doc]));
+          }
+        }
+      }
+      result.sort(Comparator.comparing(Tutorial::getId));
+      return result;
+    }
+
+    /**
+     * Intersects the posting lists of all trigrams of the needle, starting with the shortest list.
+     *
+     * @param postings the posting lists of the field
+     * @param needle the normalized search text, at least three characters long
+     * @return the document numbers containing all trigrams of the needle
+     */
+    private static int[] candidates(Map<Long, PostingList> postings, String needle) {
+      List<PostingList> lists = new ArrayList<>();
+      for (int i = 0; i + 3 <= needle.length(); i++) {
+        PostingList list = postings.get(trigram(needle, i));
+        if (list == null) {
+          return new int[0];
+        }
+        lists.add(list);
+      }
+      lists.sort(Comparator.comparingInt(list -> list.size));
+
+      PostingList shortest = lists.get(0);
+      int[] result = Arrays.copyOf(shortest.docs, shortest.size);
+      int resultSize = result.length;
+      for (int l = 1; l < lists.size() && resultSize > 0; l++) {
+        PostingList other = lists.get(l);
+        int kept = 0;
+        int j = 0;
+        for (int i = 0; i < resultSize && j < other.size; i++) {
+          while (j < other.size && other.docs[j] < result[i]) {
+            j++;
+          }
+          if (j < other.size && other.docs[j] == result[i]) {
+            result[kept++] = result[i];
+          }
+        }
+        resultSize = kept;
+      }
+      return Arrays.copyOf(result, resultSize);
+    }
+
+    /**
+     * Adds the document to the posting lists of all trigrams of the value.
+     *
+     * @param postings the posting lists of the field
+     * @param value the normalized field value, may be {@code null}
+     * @param doc the document number
+     */
+    private static void addTrigrams(Map<Long, PostingList> postings, String value, int doc) {
+      if (value == null) {
+        return;
+      }
+      for (int i = 0; i + 3 <= value.length(); i++) {
+        postings.computeIfAbsent(trigram(value, i), key -> new PostingList()).add(doc);
+      }
+    }
+
+    /**
+     * Creates a detached copy of a tutorial, so callers cannot modify the indexed state.
+     *
+     * @param tutorial the tutorial to copy
+     * @return the copy
+     */
+    private static Tutorial copy(Tutorial tutorial) {
+      return Tutorial.builder()
+          .id(tutorial.getId())
+          .title(tutorial.getTitle())
+          .description(tutorial.getDescription())
+          .version(tutorial.getVersion())
+          .build();
+    }
+  }
+}
@@ -2,8 +2,12 @@ package ipu.example.demo.service;
 
 import ipu.example.demo.model.ServiceException;
 import ipu.example.demo.model.Tutorial;
+import ipu.example.demo.model.VersionConflictException;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import org.springframework.data.domain.Window;
 
 /**
  * Service interface defining operations for managing {@link Tutorial} entities.
@@ -27,6 +31,14 @@ public interface TutorialService {
    */
   Optional<Tutorial> getTutorialById(long id);
 
+  /**
+   * Retrieves the tutorials with the given IDs.
+   *
+   * @param ids the IDs of the tutorials, may contain duplicates
+   * @return one {@link Optional} per given ID in the same order, containing the tutorial if found, or empty if not
+   */
+  List<Optional<Tutorial>> getTutorialsByIds(List<Long> ids);
+
   /**
    * Creates a new tutorial.
    *
@@ -36,6 +48,17 @@ public interface TutorialService {
    */
   Tutorial createTutorial(Tutorial tutorial) throws ServiceException;
 
+  /**
+   * Creates multiple tutorials at once.
+   * <p>
+   * Either all given tutorials are created or, if an error occurs, none of them.
+   *
+   * @param tutorials the tutorial entities to create
+   * @return the created tutorials with generated IDs, in the order of the given tutorials
+   * @throws ServiceException if any error occurs during creation
+   */
+  List<Tutorial> createTutorials(List<Tutorial> tutorials) throws ServiceException;
+
   /**
    * Updates an existing tutorial identified by ID.
    *
@@ -46,6 +69,21 @@ public interface TutorialService {
    */
   Optional<Tutorial> updateTutorial(long id, Tutorial tutorial) throws ServiceException;
 
+  /**
+   * Partially updates an existing tutorial identified by ID.
+   * <p>
+   * Only the non-null fields of the given tutorial data are changed. If an expected version is given,
+   * the tutorial is only changed if it still has this version.
+   *
+   * @param id the ID of the tutorial to update
+   * @param tutorial the tutorial fields to change
+   * @param expectedVersion the version the change is based on, or {@code null} to skip the version check
+   * @return an {@link Optional} containing the updated tutorial if the tutorial exists, or empty if not found
+   * @throws VersionConflictException if the tutorial exists with another version than the expected one
+   * @throws ServiceException if any other error occurs during update
+   */
+  Optional<Tutorial> patchTutorial(long id, Tutorial tutorial, Long expectedVersion) throws ServiceException;
+
   /**
    * Deletes a tutorial by its ID.
    *
@@ -54,6 +92,15 @@ public interface TutorialService {
    */
   void deleteTutorial(long id) throws ServiceException;
 
+  /**
+   * Deletes all tutorials with the given IDs. IDs of non-existing tutorials are ignored.
+   *
+   * @param ids the IDs of the tutorials to delete
+   * @return the number of deleted tutorials
+   * @throws ServiceException if any error occurs during deletion
+   */
+  int deleteTutorials(Collection<Long> ids) throws ServiceException;
+
   /**
    * Deletes all tutorials.
    *
@@ -78,4 +125,47 @@ public interface TutorialService {
    * @throws ServiceException if any error occurs during the search
    */
   List<Tutorial> findByDescriptionContaining(String text) throws ServiceException;
+
+  /**
+   * Retrieves a page of tutorials following the given ID (keyset pagination).
+   *
+   * @param afterId the last ID of the previous page, or {@code 0} for the first page
+   * @param limit the maximum number of tutorials in the page
+   * @return a {@link Window} with the tutorials of the page, ordered by ID
+   * @throws ServiceException if any error occurs during retrieval
+   */
+  Window<Tutorial> getTutorialsAfter(long afterId, int limit) throws ServiceException;
+
+  /**
+   * Finds a page of tutorials whose titles contain the specified text, following the given ID.
+   *
+   * @param text the partial title text to search for
+   * @param afterId the last ID of the previous page, or {@code 0} for the first page
+   * @param limit the maximum number of tutorials in the page
+   * @return a {@link Window} with the matching tutorials of the page, ordered by ID
+   * @throws ServiceException if any error occurs during the search
+   */
+  Window<Tutorial> findByTitleContainingAfter(String text, long afterId, int limit) throws ServiceException;
+
+  /**
+   * Finds a page of tutorials whose descriptions contain the specified text, following the given ID.
+   *
+   * @param text the partial description text to search for
+   * @param afterId the last ID of the previous page, or {@code 0} for the first page
+   * @param limit the maximum number of tutorials in the page
+   * @return a {@link Window} with the matching tutorials of the page, ordered by ID
+   * @throws ServiceException if any error occurs during the search
+   */
+  Window<Tutorial> findByDescriptionContainingAfter(String text, long afterId, int limit) throws ServiceException;
+
+  /**
+   * Passes all tutorials, ordered by ID, one by one to the given consumer.
+   * <p>
+   * The tutorials are streamed from the database and never collected into a list,
+   * so memory usage does not depend on the number of tutorials.
+   *
+   * @param consumer the consumer receiving each tutorial
+   * @throws ServiceException if any error occurs while reading the tutorials
+   */
+  void exportTutorials(Consumer<Tutorial> consumer) throws ServiceException;
 }
@@ -1,30 +1,92 @@
 package ipu.example.demo.service;
 
+import io.micrometer.core.annotation.Timed;
+import ipu.example.demo.config.CacheConfig;
+import ipu.example.demo.config.MetricsConfig;
 import ipu.example.demo.model.ServiceException;
 import ipu.example.demo.model.Tutorial;
+import ipu.example.demo.model.TutorialChangeEvent;
+import ipu.example.demo.model.VersionConflictException;
 import ipu.example.demo.repository.TutorialRepository;
+import ipu.example.demo.repository.TutorialRevisions;
+import jakarta.persistence.EntityManager;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Service implementation for managing {@link Tutorial} entities.
  * Provides business logic for CRUD operations and custom queries.
+ * <p>
+ * The duration of each method is recorded in the {@value MetricsConfig#SERVICE_TIMER} timer.
  */
 @Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 public class TutorialServiceImpl implements TutorialService {
 
+  /** Maximum number of IDs per {@code IN} list when deleting tutorials by ID. */
+  private static final int DELETE_CHUNK_SIZE = 1000;
+
+  /** Maximum number of IDs per {@code IN} list when retrieving tutorials by ID. */
+  private static final int LOOKUP_CHUNK_SIZE = 1000;
+
   /** Repository used for accessing Tutorial data. */
   private final TutorialRepository tutorialRepository;
 
+  /** Entity manager used to detach streamed entities from the persistence context. */
+  private final EntityManager entityManager;
+
+  /** Publisher notifying listeners about changed tutorials. */
+  private final ApplicationEventPublisher eventPublisher;
+
+  /** Optional in-memory index answering title and description searches, {@code null} if disabled. */
+  private final TutorialSearchIndex searchIndex;
+
+  /** Allocator of the revisions of bulk updates and deletions. */
+  private final TutorialRevisions revisions;
+
+  /**
+   * Cache of detached copies of the tutorials by ID, {@code null} if caching is disabled. Evictions within
+   * a transaction are applied after its commit.
+   */
+  private final Cache tutorialsCache;
+
   /**
    * Constructor injecting the {@link TutorialRepository}.
    *
    * @param tutorialRepository the repository for tutorial persistence operations
+   * @param entityManager the entity manager of the persistence context
+   * @param eventPublisher the publisher for {@link TutorialChangeEvent}s
+   * @param searchIndex provider of the optional {@link TutorialSearchIndex}
+   * @param revisions the allocator of the revisions of bulk updates and deletions
+   * @param cacheManager the cache manager providing the {@value CacheConfig#TUTORIALS_CACHE} cache
    */
-  public TutorialServiceImpl(TutorialRepository tutorialRepository) {
+  public TutorialServiceImpl(TutorialRepository tutorialRepository, EntityManager entityManager,
+      ApplicationEventPublisher eventPublisher, ObjectProvider<TutorialSearchIndex> searchIndex,
+      TutorialRevisions revisions, CacheManager cacheManager) {
     this.tutorialRepository = tutorialRepository;
+    this.entityManager = entityManager;
+    this.eventPublisher = eventPublisher;
+    this.searchIndex = searchIndex.getIfAvailable();
+    this.revisions = revisions;
+    Cache cache = cacheManager.getCache(CacheConfig.TUTORIALS_CACHE);
+    this.tutorialsCache = cache == null ? null : new TransactionAwareCacheDecorator(cache);
   }
 
   /**
@@ -39,13 +101,60 @@ public class TutorialServiceImpl implements TutorialService {
 
   /**
    * Finds a tutorial by its ID.
+   * <p>
+   * Tutorials are cached in the {@value CacheConfig#TUTORIALS_CACHE} cache as detached copies, and every
+   * caller receives its own copy, so neither a managed entity nor a caller's change ends up in the cache.
+   * The cache loads each ID atomically: an eviction by a concurrent write waits for the load and removes
+   * its result, so a state read before the write's commit is not kept. Missing tutorials are cached as
+   * well; creating a tutorial evicts its ID.
    *
    * @param id the ID of the tutorial to retrieve
    * @return an {@link Optional} containing the tutorial if found, otherwise empty
    */
   @Override
   public Optional<Tutorial> getTutorialById(long id) {
-    return tutorialRepository.findById(id);
+    if (tutorialsCache == null) {
+      return tutorialRepository.findById(id);
+    }
+    Tutorial cached = tutorialsCache.get(id,
+        () -> tutorialRepository.findById(id).map(TutorialServiceImpl::detachedCopy).orElse(null));
+    return Optional.ofNullable(cached).map(TutorialServiceImpl::detachedCopy);
+  }
+
+  /**
+   * Retrieves the tutorials with the given IDs.
+   * <p>
+   * Each distinct ID is first looked up in the {@value CacheConfig#TUTORIALS_CACHE} cache, which returns
+   * copies of the cached tutorials. The remaining tutorials are loaded with one {@code IN} based query per
+   * {@value #LOOKUP_CHUNK_SIZE} IDs; they are not put into the cache, since a batch loaded before a concurrent
+   * update could otherwise be cached after the update has evicted the tutorial.
+   *
+   * @param ids the IDs of the tutorials, may contain duplicates
+   * @return one {@link Optional} per given ID in the same order, containing the tutorial if found, or empty if not
+   */
+  @Override
+  public List<Optional<Tutorial>> getTutorialsByIds(List<Long> ids) {
+    Map<Long, Tutorial> found = new HashMap<>();
+    List<Long> missing = new ArrayList<>();
+    for (Long id : new LinkedHashSet<>(ids)) {
+      Tutorial cached = tutorialsCache == null ? null : tutorialsCache.get(id, Tutorial.class);
+      if (cached != null) {
+        found.put(id, detachedCopy(cached));
+      } else {
+        missing.add(id);
+      }
+    }
+    for (int start = 0; start < missing.size(); start += LOOKUP_CHUNK_SIZE) {
+      List<Long> chunk = missing.subList(start, Math.min(start + LOOKUP_CHUNK_SIZE, missing.size()));
+      for (Tutorial tutorial : tutorialRepository.findAllById(chunk)) {
+        found.put(tutorial.getId(), tutorial);
+      }
+    }
+    List<Optional<Tutorial>> tutorials = new ArrayList<>(ids.size());
+    for (Long id : ids) {
+      tutorials.add(Optional.ofNullable(found.get(id)));
+    }
+    return tutorials;
   }
 
   /**
@@ -58,21 +167,45 @@ public class TutorialServiceImpl implements TutorialService {
   @Override
   public Tutorial createTutorial(Tutorial tutorial) throws ServiceException {
     try {
-      Tutorial newTutorial;
-      if (tutorial == null) {
-        newTutorial = new Tutorial();
-      } else {
-        newTutorial = Tutorial.builder()
-            .title(tutorial.getTitle())
-            .description(tutorial.getDescription())
-            .build();
-      }
-      return tutorialRepository.save(newTutorial);
+      Tutorial savedTutorial = tutorialRepository.save(newTutorial(tutorial));
+      evictCached(savedTutorial.getId());
+      eventPublisher.publishEvent(TutorialChangeEvent.created(savedTutorial));
+      return savedTutorial;
     } catch (Exception ex) {
       throw new ServiceException("Internal error while creating a tutorial", ex);
     }
   }
 
+  /**
+   * Creates multiple tutorials in a single transaction.
+   * <p>
+   * The inserts are sent as JDBC batches and the IDs are taken from blocks reserved by the
+   * pooled sequence optimizer. The persistence context is flushed before returning,
+   * so constraint violations are reported as {@link ServiceException}.
+   *
+   * @param tutorials the tutorial data to create
+   * @return the saved tutorial entities, in the order of the given tutorials
+   * @throws ServiceException if an internal error occurs; no tutorial has been created in that case
+   */
+  @Override
+  @Transactional(rollbackFor = ServiceException.class)
+  public List<Tutorial> createTutorials(List<Tutorial> tutorials) throws ServiceException {
+    try {
+      List<Tutorial> newTutorials = new ArrayList<>(tutorials.size());
+      for (Tutorial tutorial : tutorials) {
+        newTutorials.add(newTutorial(tutorial));
+      }
+      List<Tutorial> savedTutorials = tutorialRepository.saveAllAndFlush(newTutorials);
+      for (Tutorial saved : savedTutorials) {
+        evictCached(saved.getId());
+        eventPublisher.publishEvent(TutorialChangeEvent.created(saved));
+      }
+      return savedTutorials;
+    } catch (Exception ex) {
+      throw new ServiceException("Internal error while creating tutorials", ex);
+    }
+  }
+
   /**
    * Updates an existing tutorial by ID.
    *
@@ -91,6 +224,8 @@ public class TutorialServiceImpl implements TutorialService {
         tutorialToUpdate.setTitle(tutorial.getTitle());
         tutorialToUpdate.setDescription(tutorial.getDescription());
         tutorialToUpdate = tutorialRepository.save(tutorialToUpdate);
+        evictCached(id);
+        eventPublisher.publishEvent(TutorialChangeEvent.updated(tutorialToUpdate));
         return Optional.of(tutorialToUpdate);
       } else {
         return Optional.empty();
@@ -100,30 +235,114 @@ public class TutorialServiceImpl implements TutorialService {
     }
   }
 
+  /**
+   * Partially updates an existing tutorial by ID.
+   * <p>
+   * The change is written with a single {@code UPDATE ... WHERE id = ? AND version = ?} statement,
+   * so concurrent writers are detected without locking. The updated tutorial is read back afterwards.
+   *
+   * @param id the ID of the tutorial to update
+   * @param tutorial the tutorial fields to change; {@code null} fields are kept
+   * @param expectedVersion the version the change is based on, or {@code null} to skip the version check
+   * @return an {@link Optional} containing the updated tutorial if successful, or empty if not found
+   * @throws VersionConflictException if the tutorial has been changed by another writer
+   * @throws ServiceException if an internal error occurs during update
+   */
+  @Override
+  @Transactional(rollbackFor = ServiceException.class)
+  public Optional<Tutorial> patchTutorial(long id, Tutorial tutorial, Long expectedVersion) throws ServiceException {
+    try {
+      int updated = tutorialRepository.patchById(id, tutorial.getTitle(), tutorial.getDescription(),
+          expectedVersion, revisions.allocate());
+      if (updated == 0) {
+        if (expectedVersion != null && tutorialRepository.existsById(id)) {
+          throw new VersionConflictException("Tutorial " + id + " does not have the version " + expectedVersion);
+        }
+        return Optional.empty();
+      }
+
+      evictCached(id);
+      Optional<Tutorial> patchedTutorial = tutorialRepository.findById(id);
+      patchedTutorial.ifPresent(patched -> eventPublisher.publishEvent(TutorialChangeEvent.updated(patched)));
+      return patchedTutorial;
+    } catch (VersionConflictException ex) {
+      throw ex;
+    } catch (Exception ex) {
+      throw new ServiceException("Internal error while patching a tutorial", ex);
+    }
+  }
+
   /**
    * Deletes a tutorial by its ID.
+   * <p>
+   * The tutorial is marked as deleted with a new revision and kept as tombstone. A change is only published
+   * if the tutorial existed, so deleting an unknown or already deleted tutorial leaves ETags and caches valid.
    *
    * @param id the ID of the tutorial to delete
    * @throws ServiceException if an internal error occurs during deletion
    */
   @Override
+  @Transactional(rollbackFor = ServiceException.class)
   public void deleteTutorial(long id) throws ServiceException {
     try {
-      tutorialRepository.deleteById(id);
+      evictCached(id);
+      if (tutorialRepository.markDeletedByIdIn(List.of(id), revisions.allocate()) > 0) {
+        eventPublisher.publishEvent(TutorialChangeEvent.deleted(id));
+      }
     } catch (Exception ex) {
       throw new ServiceException("Internal error while deleting a tutorial", ex);
     }
   }
 
+  /**
+   * Deletes all tutorials with the given IDs.
+   * <p>
+   * The IDs are marked as deleted with one {@code IN} based statement per {@value #DELETE_CHUNK_SIZE} IDs within
+   * a single transaction and one revision; the tutorials are not loaded. The tutorial cache is cleared as a whole.
+   * Changes are only published for the tutorials actually deleted, found by the revision of the deletion.
+   *
+   * @param ids the IDs of the tutorials to delete
+   * @return the number of deleted tutorials
+   * @throws ServiceException if an internal error occurs during deletion
+   */
+  @Override
+  @Transactional(rollbackFor = ServiceException.class)
+  public int deleteTutorials(Collection<Long> ids) throws ServiceException {
+    try {
+      List<Long> distinctIds = List.copyOf(new LinkedHashSet<>(ids));
+      long revision = revisions.allocate();
+      int deleted = 0;
+      for (int start = 0; start < distinctIds.size(); start += DELETE_CHUNK_SIZE) {
+        List<Long> chunk = distinctIds.subList(start, Math.min(start + DELETE_CHUNK_SIZE, distinctIds.size()));
+        deleted += tutorialRepository.markDeletedByIdIn(chunk, revision);
+      }
+      if (deleted > 0) {
+        clearCached();
+        tutorialRepository.findIdsWrittenWith(revision)
+            .forEach(id -> eventPublisher.publishEvent(TutorialChangeEvent.deleted(id)));
+      }
+      return deleted;
+    } catch (Exception ex) {
+      throw new ServiceException("Internal error while deleting tutorials", ex);
+    }
+  }
+
   /**
    * Deletes all tutorials from the database.
+   * <p>
+   * Uses a single {@code UPDATE} statement marking all tutorials as deleted with one revision,
+   * instead of loading and deleting every tutorial.
    *
    * @throws ServiceException if an internal error occurs during deletion
    */
   @Override
+  @Transactional(rollbackFor = ServiceException.class)
   public void deleteAllTutorials() throws ServiceException {
     try {
-      tutorialRepository.deleteAll();
+      if (tutorialRepository.markAllDeleted(revisions.allocate()) > 0) {
+        clearCached();
+        eventPublisher.publishEvent(TutorialChangeEvent.cleared());
+      }
     } catch (Exception ex) {
       throw new ServiceException("Internal error while deleting all tutorials", ex);
     }
@@ -131,6 +350,9 @@ public class TutorialServiceImpl implements TutorialService {
 
   /**
    * Finds tutorials whose title contains the specified text.
+   * <p>
+   * The search is answered by the {@link TutorialSearchIndex} if it is enabled and built,
+   * otherwise by the database.
    *
    * @param text the text to search for in the title
    * @return a list of matching tutorials
@@ -139,6 +361,9 @@ public class TutorialServiceImpl implements TutorialService {
   @Override
   public List<Tutorial> findByTitleContaining(String text) throws ServiceException {
     try {
+      if (TutorialQueries.isSearchIndexReady(searchIndex)) {
+        return searchIndex.findByTitleContaining(text);
+      }
       return tutorialRepository.findByTitleContainingIgnoreCase(text);
     } catch (Exception ex) {
       throw new ServiceException("Internal error while searching by title", ex);
@@ -147,6 +372,9 @@ public class TutorialServiceImpl implements TutorialService {
 
   /**
    * Finds tutorials whose description contains the specified text.
+   * <p>
+   * The search is answered by the {@link TutorialSearchIndex} if it is enabled and built,
+   * otherwise by the database.
    *
    * @param text the text to search for in the description
    * @return a list of matching tutorials
@@ -155,9 +383,147 @@ public class TutorialServiceImpl implements TutorialService {
   @Override
   public List<Tutorial> findByDescriptionContaining(String text) throws ServiceException {
     try {
+      if (TutorialQueries.isSearchIndexReady(searchIndex)) {
+        return searchIndex.findByDescriptionContaining(text);
+      }
       return tutorialRepository.findByDescriptionContainingIgnoreCase(text);
     } catch (Exception ex) {
       throw new ServiceException("Internal error while searching by description", ex);
     }
   }
+
+  /**
+   * Retrieves a page of tutorials following the given ID.
+   *
+   * @param afterId the last ID of the previous page, or {@code 0} for the first page
+   * @param limit the maximum number of tutorials in the page
+   * @return a {@link Window} with the tutorials of the page
+   * @throws ServiceException if an internal error occurs during retrieval
+   */
+  @Override
+  public Window<Tutorial> getTutorialsAfter(long afterId, int limit) throws ServiceException {
+    try {
+      return TutorialQueries.toWindow(tutorialRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit + 1)),
+          limit, Tutorial::getId);
+    } catch (Exception ex) {
+      throw new ServiceException("Internal error while retrieving a page of tutorials", ex);
+    }
+  }
+
+  /**
+   * Finds a page of tutorials whose title contains the specified text, following the given ID.
+   *
+   * @param text the text to search for in the title
+   * @param afterId the last ID of the previous page, or {@code 0} for the first page
+   * @param limit the maximum number of tutorials in the page
+   * @return a {@link Window} with the matching tutorials of the page
+   * @throws ServiceException if an internal error occurs during search
+   */
+  @Override
+  public Window<Tutorial> findByTitleContainingAfter(String text, long afterId, int limit) throws ServiceException {
+    try {
+      return TutorialQueries.toWindow(tutorialRepository.findByTitleContainingIgnoreCaseAndIdGreaterThanOrderByIdAsc(
+          text, afterId, Limit.of(limit + 1)), limit, Tutorial::getId);
+    } catch (Exception ex) {
+      throw new ServiceException("Internal error while searching by title", ex);
+    }
+  }
+
+  /**
+   * Finds a page of tutorials whose description contains the specified text, following the given ID.
+   *
+   * @param text the text to search for in the description
+   * @param afterId the last ID of the previous page, or {@code 0} for the first page
+   * @param limit the maximum number of tutorials in the page
+   * @return a {@link Window} with the matching tutorials of the page
+   * @throws ServiceException if an internal error occurs during search
+   */
+  @Override
+  public Window<Tutorial> findByDescriptionContainingAfter(String text, long afterId, int limit)
+      throws ServiceException {
+    try {
+      return TutorialQueries.toWindow(
+          tutorialRepository.findByDescriptionContainingIgnoreCaseAndIdGreaterThanOrderByIdAsc(
+              text, afterId, Limit.of(limit + 1)), limit, Tutorial::getId);
+    } catch (Exception ex) {
+      throw new ServiceException("Internal error while searching by description", ex);
+    }
+  }
+
+  /**
+   * Streams all tutorials to the given consumer within a read-only transaction.
+   * <p>
+   * Each tutorial is detached once consumed, so the persistence context does not grow with the
+   * number of exported rows.
+   *
+   * @param consumer the consumer receiving each tutorial
+   * @throws ServiceException if an internal error occurs while reading the tutorials
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public void exportTutorials(Consumer<Tutorial> consumer) throws ServiceException {
+    try (Stream<Tutorial> tutorials = tutorialRepository.streamAllByOrderByIdAsc()) {
+      Iterator<Tutorial> iterator = tutorials.iterator();
+      while (iterator.hasNext()) {
+        Tutorial tutorial = iterator.next();
+        consumer.accept(tutorial);
+        entityManager.detach(tutorial);
+      }
+    } catch (Exception ex) {
+      throw new ServiceException("Internal error while exporting tutorials", ex);
+    }
+  }
+
+  /**
+   * Creates a new, unsaved tutorial entity from the given tutorial data.
+   *
+   * @param tutorial the tutorial data, {@code null} for an empty tutorial
+   * @return the new entity without ID
+   */
+  private static Tutorial newTutorial(Tutorial tutorial) {
+    if (tutorial == null) {
+      return new Tutorial();
+    }
+    return Tutorial.builder()
+        .title(tutorial.getTitle())
+        .description(tutorial.getDescription())
+        .build();
+  }
+
+  /**
+   * Removes a tutorial from the cache, within a transaction after its commit.
+   *
+   * @param id the ID of the tutorial
+   */
+  private void evictCached(long id) {
+    if (tutorialsCache != null) {
+      tutorialsCache.evict(id);
+    }
+  }
+
+  /**
+   * Removes all tutorials from the cache, within a transaction after its commit.
+   */
+  private void clearCached() {
+    if (tutorialsCache != null) {
+      tutorialsCache.clear();
+    }
+  }
+
+  /**
+   * Creates a detached copy of a tutorial, as kept in and returned from the tutorial cache.
+   *
+   * @param tutorial the tutorial
+   * @return a new instance with the same state
+   */
+  private static Tutorial detachedCopy(Tutorial tutorial) {
+    return Tutorial.builder()
+        .id(tutorial.getId())
+        .title(tutorial.getTitle())
+        .description(tutorial.getDescription())
+        .version(tutorial.getVersion())
+        .revision(tutorial.getRevision())
+        .deleted(tutorial.isDeleted())
+        .build();
+  }
 }
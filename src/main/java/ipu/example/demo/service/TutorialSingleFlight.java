@@ -0,0 +1,101 @@
+package ipu.example.demo.service;
+
+import io.micrometer.core.instrument.Counter;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lets concurrent identical calls share one execution and its result (single-flight).
+ * <p>
+ * The first caller of a key runs the loader; callers arriving with the same key while it runs wait for
+ * and receive the same result or exception. Nothing is kept once the execution has finished, so a caller
+ * arriving afterwards runs the loader again. Results are shared between callers and must not be modified.
+ *
+ * @param <V> the type of the shared results
+ */
+final class TutorialSingleFlight<V> {
+
+  /**
+   * Loads the value of a key.
+   *
+   * @param <V> the type of the value
+   * @param <E> the type of the exception thrown if loading fails
+   */
+  @FunctionalInterface
+  interface Loader<V, E extends Exception> {
+
+    /**
+     * Loads the value.
+     *
+     * @return the value
+     * @throws E if loading fails
+     */
+    V load() throws E;
+  }
+
+  /** Executions in progress by key. */
+  private final Map<Object, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+  /** Number of callers that received the result of another caller's execution. */
+  private final Counter shared;
+
+  /**
+   * Creates a single-flight group.
+   *
+   * @param shared counter of the callers that received the result of another caller's execution
+   */
+  TutorialSingleFlight(Counter shared) {
+    this.shared = shared;
+  }
+
+  /**
+   * Returns the result of the execution in progress for the key, or runs the loader if there is none.
+   *
+   * @param <E> the type of the exception thrown by the loader
+   * @param key the key identifying identical calls, compared by {@code equals}; calls with the same key
+   *     must use loaders throwing the same exception type
+   * @param loader the loader running the call
+   * @return the result of the loader
+   * @throws E if the loader fails
+   */
+  <E extends Exception> V execute(Object key, Loader<V, E> loader) throws E {
+    CompletableFuture<V> execution = new CompletableFuture<>();
+    CompletableFuture<V> running = inFlight.putIfAbsent(key, execution);
+    if (running != null) {
+      shared.increment();
+      return await(running);
+    }
+    try {
+      V value = loader.load();
+      execution.complete(value);
+      return value;
+    } catch (Exception | Error e) {
+      execution.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, execution);
+    }
+  }
+
+  /**
+   * Waits for the execution of another caller.
+   *
+   * @param <E> the type of the exception thrown by the loader of the execution
+   * @param running the execution in progress
+   * @return its result
+   * @throws E if the execution failed
+   */
+  @SuppressWarnings("unchecked")
+  private <E extends Exception> V await(CompletableFuture<V> running) throws E {
+    try {
+      return running.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof Exception cause) {
+        throw (E) cause;
+      }
+      throw e;
+    }
+  }
+}
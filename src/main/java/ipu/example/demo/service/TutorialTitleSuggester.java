@@ -0,0 +1,205 @@
+package ipu.example.demo.service;
+
+import ipu.example.demo.dto.TutorialSuggestionDto;
+import ipu.example.demo.model.Tutorial;
+import ipu.example.demo.model.TutorialChangeEvent;
+import ipu.example.demo.repository.TutorialRepository;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory index of the normalized {@link Tutorial#getTitle() titles} answering prefix lookups
+ * for autocompletion without querying the database.
+ * <p>
+ * The titles are kept in a concurrent skip list ordered by normalized title and ID, so a lookup is a
+ * binary search for the first title with the prefix followed by reading the next {@code limit} entries.
+ * Lookups do not lock; changes are serialized and take {@code O(log n)}.
+ * <p>
+ * The index is rebuilt from the repository at startup and updated incrementally from
+ * {@link TutorialChangeEvent}s published by {@link TutorialService}. Changes written directly
+ * through the repository are not visible until the next {@link #rebuild()}.
+ */
+@Component
+public class TutorialTitleSuggester {
+
+  /** Number of tutorials loaded per query while rebuilding the index. */
+  private static final int REBUILD_BATCH_SIZE = 1000;
+
+  /** Orders entries by normalized title, then by ID. */
+  private static final Comparator<Key> KEY_ORDER = Comparator.comparing(Key::normalizedTitle)
+      .thenComparingLong(Key::id);
+
+  /** Repository the index is rebuilt from. */
+  private final TutorialRepository tutorialRepository;
+
+  /** Serializes changes of the index; lookups do not take it. */
+  private final Object writeLock = new Object();
+
+  /** Titles by normalized title and ID. */
+  private volatile NavigableMap<Key, String> titles = new ConcurrentSkipListMap<>(KEY_ORDER);
+
+  /** Keys of the indexed tutorials by ID, used to replace and remove titles. */
+  private volatile Map<Long, Key> keysById = new ConcurrentHashMap<>();
+
+  /** Whether the index has been built and can answer lookups. */
+  private volatile boolean ready;
+
+  /**
+   * Key of a title in the index.
+   *
+   * @param normalizedTitle the normalized title
+   * @param id the ID of the tutorial
+   */
+  private record Key(String normalizedTitle, long id) {
+  }
+
+  /**
+   * Constructor injecting the {@link TutorialRepository}.
+   *
+   * @param tutorialRepository the repository the index is rebuilt from
+   */
+  public TutorialTitleSuggester(TutorialRepository tutorialRepository) {
+    this.tutorialRepository = tutorialRepository;
+  }
+
+  /**
+   * Returns whether the index has been built and can answer lookups.
+   *
+   * @return {@code true} if the index is ready
+   */
+  public boolean isReady() {
+    return ready;
+  }
+
+  /**
+   * Rebuilds the index from all tutorials in the repository.
+   * <p>
+   * Tutorials are loaded in pages ordered by ID. Lookups are answered from the previous content
+   * until the rebuild is complete; changes arriving during the rebuild wait for it and are applied afterwards.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    synchronized (writeLock) {
+      NavigableMap<Key, String> newTitles = new ConcurrentSkipListMap<>(KEY_ORDER);
+      Map<Long, Key> newKeysById = new ConcurrentHashMap<>();
+      long lastId = 0L;
+      List<Tutorial> batch;
+      do {
+        batch = tutorialRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(REBUILD_BATCH_SIZE));
+        for (Tutorial tutorial : batch) {
+          put(newTitles, newKeysById, tutorial);
+          lastId = tutorial.getId();
+        }
+      } while (batch.size() == REBUILD_BATCH_SIZE);
+      titles = newTitles;
+      keysById = newKeysById;
+      ready = true;
+    }
+  }
+
+  /**
+   * Applies a change of the tutorials to the index once the change has been committed.
+   *
+   * @param event the change published by the service layer
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  @Order(TutorialChangeTracker.DERIVED_STATE_ORDER)
+  public void onTutorialChange(TutorialChangeEvent event) {
+    synchronized (writeLock) {
+      switch (event.getType()) {
+        case CREATED, UPDATED -> put(titles, keysById, event.getTutorial());
+        case DELETED -> remove(titles, keysById, event.getId());
+        case CLEARED -> {
+          titles = new ConcurrentSkipListMap<>(KEY_ORDER);
+          keysById = new ConcurrentHashMap<>();
+        }
+      }
+    }
+  }
+
+  /**
+   * Finds the tutorials whose normalized title starts with the normalized prefix.
+   *
+   * @param prefix the prefix typed by the user
+   * @param limit the maximum number of suggestions
+   * @return the suggestions ordered by normalized title and ID
+   */
+  public List<TutorialSuggestionDto> suggest(String prefix, int limit) {
+    String normalizedPrefix = normalize(prefix);
+    List<TutorialSuggestionDto> suggestions = new ArrayList<>(limit);
+    for (Map.Entry<Key, String> entry : titles.tailMap(new Key(normalizedPrefix, Long.MIN_VALUE)).entrySet()) {
+      if (suggestions.size() == limit || !entry.getKey().normalizedTitle().startsWith(normalizedPrefix)) {
+        break;
+      }
+      suggestions.add(TutorialSuggestionDto.builder()
+          .id(entry.getKey().id())
+          .title(entry.getValue())
+          .build());
+    }
+    return suggestions;
+  }
+
+  /**
+   * Normalizes a title for prefix matching: compatibility composed Unicode, lower case and
+   * single spaces, without leading and trailing whitespace.
+   *
+   * @param title the title, may be {@code null}
+   * @return the normalized title, empty for {@code null}
+   */
+  static String normalize(String title) {
+    if (title == null) {
+      return "";
+    }
+    return Normalizer.normalize(title, Normalizer.Form.NFKC)
+        .toLowerCase(Locale.ROOT)
+        .strip()
+        .replaceAll("\\s+", " ");
+  }
+
+  /**
+   * Adds a tutorial to the given index content or replaces its title.
+   *
+   * @param titles the titles by key
+   * @param keysById the keys by ID
+   * @param tutorial the tutorial to index
+   */
+  private static void put(NavigableMap<Key, String> titles, Map<Long, Key> keysById, Tutorial tutorial) {
+    if (tutorial.getTitle() == null) {
+      remove(titles, keysById, tutorial.getId());
+      return;
+    }
+    Key key = new Key(normalize(tutorial.getTitle()), tutorial.getId());
+    titles.put(key, tutorial.getTitle());
+    Key previous = keysById.put(key.id(), key);
+    if (previous != null && !previous.equals(key)) {
+      titles.remove(previous);
+    }
+  }
+
+  /**
+   * Removes a tutorial from the given index content.
+   *
+   * @param titles the titles by key
+   * @param keysById the keys by ID
+   * @param id the ID of the tutorial to remove
+   */
+  private static void remove(NavigableMap<Key, String> titles, Map<Long, Key> keysById, long id) {
+    Key key = keysById.remove(id);
+    if (key != null) {
+      titles.remove(key);
+    }
+  }
+}
@@ -0,0 +1,263 @@
+package ipu.example.demo.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import ipu.example.demo.model.ServiceException;
+import ipu.example.demo.model.Tutorial;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Coalesces concurrent creations of single tutorials into group commits.
+ * <p>
+ * Callers enqueue their tutorial and receive a future. A single writer thread drains the queue in
+ * micro-batches of at most {@code max-batch-size} tutorials: it takes the first waiting tutorial and
+ * collects further ones until the batch is full or {@code max-wait} has passed. Each batch is created by
+ * {@link TutorialService#createTutorials(List)} in one transaction with JDBC batch inserts, so a burst of
+ * requests pays for one commit instead of one per request. While a batch is written, new requests queue
+ * up and form the next batch.
+ * <p>
+ * Every caller gets the result of its own tutorial: the saved tutorial with its generated ID, or the
+ * {@link ServiceException} of its own creation. If a batch fails, its tutorials are created one by one,
+ * so a failing tutorial does not fail the others. If the queue is full, the caller creates its tutorial
+ * itself. An unexpected error while writing a batch fails the tutorials of that batch, the writer thread
+ * continues with the next one. Once the coalescer is stopped, waiting and newly submitted tutorials fail.
+ * Callers should not wait longer than {@code timeout} for their tutorial. A caller giving up cancels its
+ * future; the writer skips tutorials whose future is already done, so a cancelled tutorial is not created
+ * unless its batch was already being written.
+ * <p>
+ * The coalescer is only created if {@code ipu.example.demo.write-coalescing.enabled} is {@code true}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ipu.example.demo.write-coalescing.enabled", havingValue = "true")
+public class TutorialWriteCoalescer {
+
+  /** Name of the distribution summary recording the number of tutorials per group commit. */
+  public static final String BATCH_SIZE_SUMMARY = "tutorial.write.batch.size";
+
+  /** Service writing the batches. */
+  private final TutorialService tutorialService;
+
+  /** Maximum number of tutorials per group commit. */
+  private final int maxBatchSize;
+
+  /** Maximum time the first tutorial of a batch waits for further ones. */
+  private final Duration maxWait;
+
+  /** Maximum time a caller waits for the creation of its tutorial. */
+  private final Duration timeout;
+
+  /** Tutorials waiting to be written. */
+  private final BlockingQueue<PendingWrite> queue;
+
+  /** Number of tutorials per group commit. */
+  private final DistributionSummary batchSizes;
+
+  /** Thread draining the queue, {@code null} before start and after stop. */
+  private volatile Thread writer;
+
+  /**
+   * A tutorial waiting to be created and the future of its caller.
+   *
+   * @param tutorial the tutorial to create
+   * @param result the future completed with the saved tutorial
+   */
+  private record PendingWrite(Tutorial tutorial, CompletableFuture<Tutorial> result) {
+  }
+
+  /**
+   * Constructor injecting the {@link TutorialService} and the batch limits.
+   *
+   * @param tutorialService the service writing the batches
+   * @param maxBatchSize the maximum number of tutorials per group commit
+   * @param maxWait the maximum time the first tutorial of a batch waits for further ones
+   * @param queueCapacity the maximum number of waiting tutorials
+   * @param timeout the maximum time a caller waits for the creation of its tutorial
+   * @param meterRegistry the registry recording the batch sizes
+   */
+  public TutorialWriteCoalescer(TutorialService tutorialService,
+      @Value("${ipu.example.demo.write-coalescing.max-batch-size:50}") int maxBatchSize,
+      @Value("${ipu.example.demo.write-coalescing.max-wait:2ms}") Duration maxWait,
+      @Value("${ipu.example.demo.write-coalescing.queue-capacity:10000}") int queueCapacity,
+      @Value("${ipu.example.demo.write-coalescing.timeout:5s}") Duration timeout,
+      MeterRegistry meterRegistry) {
+    this.tutorialService = tutorialService;
+    this.maxBatchSize = maxBatchSize;
+    this.maxWait = maxWait;
+    this.timeout = timeout;
+    this.queue = new LinkedBlockingQueue<>(queueCapacity);
+    this.batchSizes = DistributionSummary.builder(BATCH_SIZE_SUMMARY)
+        .description("Number of tutorials created per group commit")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Starts the writer thread.
+   */
+  @PostConstruct
+  public void start() {
+    Thread thread = new Thread(this::drain, "tutorial-writer");
+    thread.setDaemon(true);
+    writer = thread;
+    thread.start();
+  }
+
+  /**
+   * Stops the writer thread. Tutorials not written yet, including ones submitted while stopping, are failed.
+   *
+   * @throws InterruptedException if interrupted while waiting for the writer thread
+   */
+  @PreDestroy
+  public void stop() throws InterruptedException {
+    Thread thread = writer;
+    writer = null;
+    if (thread != null) {
+      thread.interrupt();
+      thread.join();
+    }
+    failQueued(new ArrayList<>());
+  }
+
+  /**
+   * Returns the maximum time a caller should wait for the future of {@link #createTutorial(Tutorial)}.
+   *
+   * @return the timeout
+   */
+  public Duration getTimeout() {
+    return timeout;
+  }
+
+  /**
+   * Creates a tutorial as part of the next group commit.
+   *
+   * @param tutorial the tutorial data to create
+   * @return future of the saved tutorial, completed exceptionally with a {@link ServiceException}
+   *     if the tutorial could not be created or the coalescer is stopped; cancelling it before the
+   *     tutorial is written prevents its creation
+   */
+  public CompletableFuture<Tutorial> createTutorial(Tutorial tutorial) {
+    PendingWrite pending = new PendingWrite(tutorial, new CompletableFuture<>());
+    if (writer == null) {
+      pending.result().completeExceptionally(stopped());
+    } else if (!queue.offer(pending)) {
+      createOne(pending);
+    } else if (writer == null && queue.remove(pending)) {
+      pending.result().completeExceptionally(stopped());
+    }
+    return pending.result();
+  }
+
+  /**
+   * Writes the queued tutorials batch by batch until the writer thread is interrupted.
+   * An unexpected error fails the tutorials of its batch but does not end the thread.
+   */
+  private void drain() {
+    List<PendingWrite> batch = new ArrayList<>(maxBatchSize);
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        batch.add(queue.take());
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        while (batch.size() < maxBatchSize) {
+          PendingWrite next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+          if (next == null) {
+            break;
+          }
+          batch.add(next);
+        }
+        try {
+          write(batch);
+        } catch (Throwable e) {
+          log.error("Group commit of {} tutorials failed unexpectedly", batch.size(), e);
+          ServiceException failed = new ServiceException("Internal error while creating a tutorial", e);
+          batch.forEach(pending -> pending.result().completeExceptionally(failed));
+        }
+        batch.clear();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      failQueued(batch);
+    }
+  }
+
+  /**
+   * Fails the given and all queued tutorials because the writer thread is stopped.
+   *
+   * @param pendingWrites the tutorials taken from the queue but not written
+   */
+  private void failQueued(List<PendingWrite> pendingWrites) {
+    queue.drainTo(pendingWrites);
+    ServiceException stopped = stopped();
+    pendingWrites.forEach(pending -> pending.result().completeExceptionally(stopped));
+  }
+
+  /**
+   * Creates a batch of tutorials in one transaction and completes the futures of the callers.
+   * Tutorials whose callers have cancelled their future are skipped.
+   * If the transaction fails, the tutorials are created one by one.
+   *
+   * @param batch the waiting tutorials
+   */
+  private void write(List<PendingWrite> batch) {
+    batch.removeIf(pending -> pending.result().isDone());
+    if (batch.isEmpty()) {
+      return;
+    }
+    batchSizes.record(batch.size());
+    if (batch.size() == 1) {
+      createOne(batch.get(0));
+      return;
+    }
+    List<Tutorial> tutorials = new ArrayList<>(batch.size());
+    batch.forEach(pending -> tutorials.add(pending.tutorial()));
+    List<Tutorial> created;
+    try {
+      created = tutorialService.createTutorials(tutorials);
+    } catch (Exception e) {
+      log.debug("Group commit of {} tutorials failed, creating them one by one", batch.size(), e);
+      batch.forEach(this::createOne);
+      return;
+    }
+    for (int i = 0; i < batch.size(); i++) {
+      batch.get(i).result().complete(created.get(i));
+    }
+  }
+
+  /**
+   * Creates a single tutorial in its own transaction and completes the future of its caller,
+   * unless the caller has cancelled it.
+   *
+   * @param pending the waiting tutorial
+   */
+  private void createOne(PendingWrite pending) {
+    if (pending.result().isDone()) {
+      return;
+    }
+    try {
+      pending.result().complete(tutorialService.createTutorial(pending.tutorial()));
+    } catch (Exception e) {
+      pending.result().completeExceptionally(e);
+    }
+  }
+
+  /**
+   * Creates the exception of tutorials that are not written because the writer thread is stopped.
+   *
+   * @return the exception
+   */
+  private static ServiceException stopped() {
+    return new ServiceException("Tutorial writer is stopped", null);
+  }
+}
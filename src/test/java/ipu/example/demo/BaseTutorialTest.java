@@ -7,6 +7,7 @@ import ipu.example.demo.repository.TutorialRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 
 @SpringBootTest
 public abstract class BaseTutorialTest {
@@ -26,18 +27,22 @@ public abstract class BaseTutorialTest {
   @Autowired
   protected TutorialRepository tutorialRepository;
 
+  @Autowired
+  protected CacheManager cacheManager;
+
   protected Tutorial testTutorial;
 
   protected long firstId;
 
 
   /**
-   * Prepares the test environment by clearing the database
+   * Prepares the test environment by clearing the database and the caches
    * and inserting three sample tutorials.
    */
   @BeforeEach
   void setUp() {
     tutorialRepository.deleteAll();
+    cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
     Tutorial firstTutorial =  tutorialRepository.save(Tutorial.builder().title(TITLE_1).description(DESCRIPTION_1).build());
     firstId = firstTutorial.getId();
     tutorialRepository.save(Tutorial.builder().title(TITLE_2).description(DESCRIPTION_2).build());
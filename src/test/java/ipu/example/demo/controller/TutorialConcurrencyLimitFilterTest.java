@@ -0,0 +1,110 @@
+package ipu.example.demo.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import ipu.example.demo.BaseTutorialTest;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Integration tests for the {@link TutorialConcurrencyLimitFilter}.
+ *
+ * <p>Runs with a small limit where reads may only use half of it, to verify that reads are shed first,
+ * and feeds latency samples to verify that the limit follows the latency.</p>
+ */
+@SpringBootTest(properties = {
+    "ipu.example.demo.concurrency-limit.enabled=true",
+    "ipu.example.demo.concurrency-limit.initial-limit=4",
+    "ipu.example.demo.concurrency-limit.min-limit=2",
+    "ipu.example.demo.concurrency-limit.max-limit=50",
+    "ipu.example.demo.concurrency-limit.read-share=0.5",
+    "ipu.example.demo.concurrency-limit.retry-after=2s"})
+@AutoConfigureMockMvc
+class TutorialConcurrencyLimitFilterTest extends BaseTutorialTest {
+
+  @Autowired
+  private TutorialConcurrencyLimitFilter limitFilter;
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  /**
+   * Tests that reads beyond their share are rejected with 503 and {@code Retry-After} while writes still pass.
+   *
+   * @throws Exception if MockMvc fails
+   */
+  @Test
+  void shedsReadsBeforeWrites() throws Exception {
+    double rejected = meterRegistry.get(TutorialConcurrencyLimitFilter.REJECTED_COUNTER)
+        .tag("priority", "read").counter().count();
+    int held = 0;
+    while (limitFilter.tryAcquire(TutorialConcurrencyLimitFilter.Priority.READ) > 0) {
+      held++;
+    }
+    try {
+      mockMvc.perform(get("/api/tutorials/" + firstId))
+          .andExpect(status().isServiceUnavailable())
+          .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"));
+      mockMvc.perform(delete("/api/tutorials/" + firstId))
+          .andExpect(status().isNoContent());
+    } finally {
+      for (int i = 0; i < held; i++) {
+        limitFilter.release(1L, 0, false);
+      }
+    }
+
+    assertEquals(rejected + 2, meterRegistry.get(TutorialConcurrencyLimitFilter.REJECTED_COUNTER)
+        .tag("priority", "read").counter().count());
+    assertEquals(0, limitFilter.getInFlight());
+    assertEquals(limitFilter.getLimit(),
+        meterRegistry.get(TutorialConcurrencyLimitFilter.LIMIT_GAUGE).gauge().value());
+  }
+
+  /**
+   * Tests that the limit grows while the latency is stable and shrinks when the latency rises or requests fail.
+   */
+  @Test
+  void followsLatency() {
+    for (int i = 0; i < 200; i++) {
+      sample(TimeUnit.MILLISECONDS.toNanos(1), false);
+    }
+    assertEquals(50, limitFilter.getLimit());
+
+    for (int i = 0; i < 50; i++) {
+      sample(TimeUnit.MILLISECONDS.toNanos(20), false);
+    }
+    assertTrue(limitFilter.getLimit() < 10, "limit " + limitFilter.getLimit());
+
+    for (int i = 0; i < 200; i++) {
+      sample(TimeUnit.MILLISECONDS.toNanos(1), false);
+    }
+    int limit = limitFilter.getLimit();
+    sample(TimeUnit.MILLISECONDS.toNanos(1), true);
+    assertTrue(limitFilter.getLimit() < limit);
+  }
+
+  /**
+   * Admits a write and completes it with a request using the whole limit.
+   *
+   * @param latencyNanos the latency of the request
+   * @param dropped whether the request failed
+   */
+  private void sample(long latencyNanos, boolean dropped) {
+    assertTrue(limitFilter.tryAcquire(TutorialConcurrencyLimitFilter.Priority.WRITE) > 0);
+    limitFilter.release(latencyNanos, limitFilter.getLimit(), dropped);
+  }
+}
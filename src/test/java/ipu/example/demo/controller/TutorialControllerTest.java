@@ -1,27 +1,65 @@
 package ipu.example.demo.controller;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import ipu.example.demo.BaseTutorialTest;
+import ipu.example.demo.config.MessageConverterConfig;
+import ipu.example.demo.config.MetricsConfig;
+import ipu.example.demo.dto.TutorialDto;
+import ipu.example.demo.mapper.TutorialMapper;
 import ipu.example.demo.model.Tutorial;
+import ipu.example.demo.repository.TutorialRevisions;
+import ipu.example.demo.service.TutorialChangeFeed;
+import ipu.example.demo.service.TutorialChangeTracker;
+import ipu.example.demo.service.TutorialService;
+import ipu.example.demo.service.TutorialTitleSuggester;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * Integration tests for the {@link ipu.example.demo.controller.TutorialController}.
@@ -53,6 +91,27 @@ class TutorialControllerTest extends BaseTutorialTest {
   @Autowired
   private MockMvc mockMvc;
 
+  @Autowired
+  private TutorialTitleSuggester titleSuggester;
+
+  @Autowired
+  private TutorialService tutorialService;
+
+  @Autowired
+  private TutorialChangeFeed changeFeed;
+
+  @Autowired
+  private TutorialChangeTracker changeTracker;
+
+  @Autowired
+  private TutorialRevisions tutorialRevisions;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @MockitoSpyBean
+  private TutorialMapper tutorialMapper;
+
   /**
    * Tests the GET endpoint for retrieving all tutorials.
    *
@@ -60,8 +119,8 @@ class TutorialControllerTest extends BaseTutorialTest {
    */
   @Test
   void getTutorials() throws Exception {
-    mockMvc
-        .perform(get(BASE_URL).contentType(MediaType.APPLICATION_JSON))
+    dispatch(mockMvc
+        .perform(get(BASE_URL).contentType(MediaType.APPLICATION_JSON)))
         .andExpect(status().isOk())
         .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
         .andExpect(jsonPath("$.size()", is(3)));
@@ -77,8 +136,8 @@ class TutorialControllerTest extends BaseTutorialTest {
    */
   @Test
   void getTutorialById() throws Exception {
-    MvcResult result = mockMvc
-        .perform(get(BASE_URL).contentType(MediaType.APPLICATION_JSON))
+    MvcResult result = dispatch(mockMvc
+        .perform(get(BASE_URL).contentType(MediaType.APPLICATION_JSON)))
         .andExpect(status().isOk())
         .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
         .andReturn();
@@ -93,8 +152,8 @@ class TutorialControllerTest extends BaseTutorialTest {
     Tutorial testTutorial = tutorials.get(0);
     Long id = testTutorial.getId();
 
-    result = mockMvc
-        .perform(get(BASE_URL + "/" + id).contentType(MediaType.APPLICATION_JSON))
+    result = dispatch(mockMvc
+        .perform(get(BASE_URL + "/" + id).contentType(MediaType.APPLICATION_JSON)))
         .andExpect(status().isOk())
         .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
         .andExpect(jsonPath("id", is(id.intValue())))
@@ -107,6 +166,507 @@ class TutorialControllerTest extends BaseTutorialTest {
     assertEquals(testTutorial.getDescription(), resultTutorial.getDescription());
   }
 
+  /**
+   * Tests retrieving all tutorials page by page by following the next cursor.
+   *
+   * @throws Exception if MockMvc fails
+   */
+  @Test
+  void getTutorialsPaged() throws Exception {
+    MvcResult result = dispatch(mockMvc
+        .perform(get(BASE_URL).param("limit", "2").contentType(MediaType.APPLICATION_JSON)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.size()", is(2)))
+        .andExpect(header().exists(TutorialController.NEXT_CURSOR_HEADER))
+        .andReturn();
+
+    String cursor = result.getResponse().getHeader(TutorialController.NEXT_CURSOR_HEADER);
+
+    dispatch(mockMvc
+        .perform(get(BASE_URL).param("after", cursor).param("limit", "2").contentType(MediaType.APPLICATION_JSON)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.size()", is(1)))
+        .andExpect(jsonPath("$[0].title", is(TITLE_3)))
+        .andExpect(header().doesNotExist(TutorialController.NEXT_CURSOR_HEADER));
+
+    dispatch(mockMvc
+        .perform(get(BASE_URL).param("after", "not-a-cursor").contentType(MediaType.APPLICATION_JSON)))
+        .andExpect(status().isBadRequest());
+  }
+
+  /**
+   * Tests the ranked search across title and description.
+   *
+   * @throws Exception if MockMvc fails
+   */
+  @Test
+  void searchTutorials() throws Exception {
+    dispatch(mockMvc
+        .perform(get(BASE_URL + "/search").param("q", "java server").contentType(MediaType.APPLICATION_JSON)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.size()", is(1)))
+        .andExpect(jsonPath("$[0].title", is(TITLE_2)));
+
+    dispatch(mockMvc
+        .perform(get(BASE_URL + "/search").param("q", "j").param("limit", "1")))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.size()", is(1)))
+        .andExpect(jsonPath("$[0].title", is(TITLE_1)));
+
+    dispatch(mockMvc
+        .perform(get(BASE_URL + "/search").param("q", " ")))
+        .andExpect(status().isBadRequest());
+  }
+
+  /**
+   * Tests counting tutorials with and without filters.
+   *
+   * @throws Exception if MockMvc fails
+   */
+  @Test
+  void countTutorials() throws Exception {
+    dispatch(mockMvc
+        .perform(get(BASE_URL + "/count")))
+        .andExpect(status().isOk())
+        .andExpect(content().string("3"));
+
+    dispatch(mockMvc
+        .perform(get(BASE_URL + "/count").param("title", "j")))
+        .andExpect(status().isOk())
+        .andExpect(content().string("2"));
+
+    dispatch(mockMvc
+        .perform(get(BASE_URL + "/count").param("description", "x")))
+        .andExpect(status().isOk())
+        .andExpect(content().string("0"));
+  }
+
+  /**
+   * Tests checking the existence of tutorials with {@code HEAD} and {@code Prefer: return=minimal}.
+   *
+   * @throws Exception if MockMvc fails
+   */
+  @Test
+  void existsTutorials() throws Exception {
+    dispatch(mockMvc
+        .perform(head(BASE_URL + "/" + firstId)))
+        .andExpect(status().isOk())
+        .andExpect(content().string(""));
+
+    dispatch(mockMvc
+        .perform(head(BASE_URL + "/" + (firstId + 100))))
+        .andExpect(status().isNotFound());
+
+    dispatch(mockMvc
+        .perform(get(BASE_URL).param("title", "kafka").header("Prefer", TutorialController.RETURN_MINIMAL)))
+        .andExpect(status().isOk())
+        .andExpect(header().string(TutorialController.PREFERENCE_APPLIED_HEADER, TutorialController.RETURN_MINIMAL))
+        .andExpect(content().string(""));
+
+    dispatch(mockMvc
+        .perform(get(BASE_URL).param("title", "x").header("Prefer", "respond-async, return=minimal")))
+        .andExpect(status().isNoContent());
+  }
+
+  /**
+   * Tests that the response to {@code Prefer: return=minimal} varies by {@code Prefer} and has an ETag of its
+   * own, so it never revalidates the list and the list never revalidates it.
+   *
+   * @throws Exception if MockMvc fails
+   */
+  @Test
+  void existsTutorialsHasOwnETag() throws Exception {
+    String minimalEtag = dispatch(mockMvc
+        .perform(get(BASE_URL).header(TutorialController.PREFER_HEADER, TutorialController.RETURN_MINIMAL)))
+        .andExpect(status().isOk())
+        .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(TutorialController.PREFER_HEADER)))
+        .andExpect(header().string(HttpHeaders.ETAG, endsWith("-minimal\"")))
+        .andExpect(content().string(""))
+        .andReturn()
+        .getResponse()
+        .getHeader(HttpHeaders.ETAG);
+
+    String listEtag = dispatch(mockMvc
+        .perform(get(BASE_URL).header(HttpHeaders.IF_NONE_MATCH, minimalEtag)))
+        .andExpect(status().isOk())
+        .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(TutorialController.PREFER_HEADER)))
+        .andExpect(jsonPath("$.size()", is(3)))
+        .andReturn()
+        .getResponse()
+        .getHeader(HttpHeaders.ETAG);
+    assertNotEquals(minimalEtag, listEtag);
+
+    dispatch(mockMvc
+        .perform(get(BASE_URL).header(TutorialController.PREFER_HEADER, TutorialController.RETURN_MINIMAL)
+            .header(HttpHeaders.IF_NONE_MATCH, listEtag)))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, minimalEtag));
+
+    dispatch(mockMvc
+        .perform(get(BASE_URL).header(TutorialController.PREFER_HEADER, TutorialController.RETURN_MINIMAL)
+            .header(HttpHeaders.IF_NONE_MATCH, minimalEtag)))
+        .andExpect(status().isNotModified())
+        .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(TutorialController.PREFER_HEADER)));
+  }
+
+  /**
+   * Tests retrieving the tutorials changed and deleted since a revision.
+   *
+   * @throws Exception if MockMvc fails
+   */
+  @Test
+  void tutorialDelta() throws Exception {
+    long since = tutorialRevisions.getHighWaterMark();
+    mockMvc.perform(delete(BASE_URL + "/" + firstId))
+        .andExpect(status().isNoContent());
+
+    dispatch(mockMvc
+        .perform(get(BASE_URL + "/delta").param("since", String.valueOf(since))))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("changed.size()", is(0)))
+        .andExpect(jsonPath("deleted", is(List.of((int) firstId))))
+        .andExpect(jsonPath("revision", is((int) tutorialRevisions.getHighWaterMark())))
+        .andExpect(jsonPath("hasMore", is(false)));
+
+    dispatch(mockMvc
+        .perform(get(BASE_URL + "/delta").param("since", "-1")))
+        .andExpect(status().isBadRequest());
+  }
+
+  /**
+   * Tests that the change stream replays the changes after the {@code Last-Event-ID} and signals an overflow
+   * for an unknown event ID.
+   *
+   * @throws Exception if MockMvc or the service fails
+   */
+  @Test
+  void streamChanges() throws Exception {
+    String lastEventId = Long.toString(changeTracker.getEpoch(), Character.MAX_RADIX) + "-"
+        + changeFeed.getLastSequence();
+    Tutorial created = tutorialService.createTutorial(Tutorial.builder().title(TITLE_4).build());
+
+    MvcResult result = mockMvc
+        .perform(get(BASE_URL + "/changes").header("Last-Event-ID", lastEventId))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+    String events = awaitContent(result, "\"id\":" + created.getId());
+    assertTrue(events.contains("event:created"));
+    assertFalse(events.contains("event:" + TutorialChangeStreams.OVERFLOW_EVENT));
+
+    result = mockMvc
+        .perform(get(BASE_URL + "/changes").header("Last-Event-ID", "unknown-1"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+    awaitContent(result, "event:" + TutorialChangeStreams.OVERFLOW_EVENT);
+  }
+
+  /**
+   * Tests that a subscriber is completed if the executor sending the events rejects its delivery.
+   */
+  @Test
+  void streamChangesCompletesRejectedSubscribers() {
+    TutorialChangeStreams changeStreams = new TutorialChangeStreams(changeFeed, changeTracker, command -> {
+      throw new TaskRejectedException("queue full");
+    }, 1000);
+
+    SseEmitter emitter = changeStreams.subscribe(null);
+
+    assertThrows(IllegalStateException.class, () -> emitter.send("change"));
+  }
+
+  /**
+   * Tests the title autocompletion.
+   *
+   * @throws Exception if MockMvc fails
+   */
+  @Test
+  void suggestTutorials() throws Exception {
+    titleSuggester.rebuild();
+
+    mockMvc
+        .perform(get(BASE_URL + "/suggest").param("prefix", "j").param("limit", "1"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.size()", is(1)))
+        .andExpect(jsonPath("$[0].title", is(TITLE_1)))
+        .andExpect(jsonPath("$[0].id", is((int) firstId)));
+
+    mockMvc
+        .perform(get(BASE_URL + "/suggest").param("prefix", "x"))
+        .andExpect(status().isNoContent());
+
+    mockMvc
+        .perform(get(BASE_URL + "/suggest").param("prefix", ""))
+        .andExpect(status().isBadRequest());
+  }
+
+  /**
+   * Tests exporting all tutorials as newline delimited JSON.
+   *
+   * @throws Exception if MockMvc fails
+   */
+  @Test
+  void exportTutorials() throws Exception {
+    MvcResult result = mockMvc
+        .perform(get(BASE_URL + "/export"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    String body = mockMvc
+        .perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith(TutorialController.APPLICATION_NDJSON_VALUE))
+        .andReturn()
+        .getResponse()
+        .getContentAsString();
+
+    List<String> lines = body.lines().toList();
+    assertEquals(3, lines.size());
+    assertTrue(body.endsWith("}\n"));
+    Tutorial first = new Gson().fromJson(lines.get(0), Tutorial.class);
+    assertEquals(firstId, first.getId());
+    assertEquals(TITLE_1, first.getTitle());
+  }
+
+  /**
+   * Tests that exporting an empty catalogue produces an empty body.
+   *
+   * @throws Exception if MockMvc or the service fails
+   */
+  @Test
+  void exportTutorialsEmpty() throws Exception {
+    tutorialService.deleteAllTutorials();
+    MvcResult result = mockMvc
+        .perform(get(BASE_URL + "/export"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    mockMvc
+        .perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(content().string(""));
+  }
+
+  /**
+   * Tests creating many tutorials from a JSON array and from newline delimited JSON.
+   *
+   * @throws Exception if MockMvc fails
+   */
+  @Test
+  void createTutorials() throws Exception {
+    String array = "[{\"title\":\"A\",\"description\":\"a\"},{\"title\":\"B\"},{\"title\":\"C\"}]";
+    mockMvc
+        .perform(post(BASE_URL + "/batch").contentType(MediaType.APPLICATION_JSON).content(array))
+        .andExpect(status().isCreated())
+        .andExpect(jsonPath("$.size()", is(3)))
+        .andExpect(jsonPath("$[0].index", is(0)))
+        .andExpect(jsonPath("$[2].status", is("CREATED")));
+    assertEquals(6, tutorialRepository.count());
+
+    String ndjson = "{\"title\":\"D\"}\n{\"title\":\"E\"}\n{\"title\":";
+    mockMvc
+        .perform(post(BASE_URL + "/batch").contentType(TutorialController.APPLICATION_NDJSON_VALUE).content(ndjson))
+        .andExpect(status().isMultiStatus())
+        .andExpect(jsonPath("$.size()", is(3)))
+        .andExpect(jsonPath("$[1].status", is("CREATED")))
+        .andExpect(jsonPath("$[2].status", is("FAILED")));
+    assertEquals(8, tutorialRepository.count());
+  }
+
+  /**
+   * Tests the binary formats: listing tutorials as CBOR and creating tutorials from Smile.
+   *
+   * @throws Exception if MockMvc or the binary encoding fails
+   */
+  @Test
+  void binaryFormats() throws Exception {
+    byte[] cbor = dispatch(mockMvc
+        .perform(get(BASE_URL).accept(MediaType.APPLICATION_CBOR)))
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+        .andReturn()
+        .getResponse()
+        .getContentAsByteArray();
+    JsonNode dtos = new CBORMapper().readTree(cbor);
+    assertEquals(3, dtos.size());
+    assertEquals(TITLE_1, dtos.get(0).get("title").asText());
+
+    byte[] smile = new SmileMapper().writeValueAsBytes(List.of(
+        TutorialDto.builder().title("A").build(), TutorialDto.builder().title("B").build()));
+    mockMvc
+        .perform(post(BASE_URL + "/batch").contentType(MessageConverterConfig.APPLICATION_SMILE_VALUE).content(smile))
+        .andExpect(status().isCreated())
+        .andExpect(jsonPath("$.size()", is(2)));
+    assertEquals(5, tutorialRepository.count());
+  }
+
+  /**
+   * Tests deleting many tutorials by their IDs.
+   *
+   * @throws Exception if MockMvc fails
+   */
+  @Test
+  void deleteTutorialsByIds() throws Exception {
+    mockMvc
+        .perform(delete(BASE_URL).param("ids", String.valueOf(firstId), "0"))
+        .andExpect(status().isNoContent());
+    assertEquals(2, tutorialRepository.count());
+    assertFalse(tutorialRepository.existsById(firstId));
+  }
+
+  /**
+   * Tests retrieving tutorials by IDs via query parameter and request body.
+   *
+   * @throws Exception if MockMvc fails
+   */
+  @Test
+  void getTutorialsByIds() throws Exception {
+    dispatch(mockMvc
+        .perform(get(BASE_URL).param("ids", "0," + firstId)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.size()", is(2)))
+        .andExpect(jsonPath("$[0].id", is(0)))
+        .andExpect(jsonPath("$[0].status", is("NOT_FOUND")))
+        .andExpect(jsonPath("$[1].status", is("FOUND")))
+        .andExpect(jsonPath("$[1].tutorial.title", is(TITLE_1)));
+
+    dispatch(mockMvc
+        .perform(post(BASE_URL + "/lookup")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("[" + firstId + "," + firstId + "]")))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.size()", is(2)))
+        .andExpect(jsonPath("$[1].tutorial.description", is(DESCRIPTION_1)));
+
+    dispatch(mockMvc
+        .perform(post(BASE_URL + "/lookup")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("[]")))
+        .andExpect(status().isBadRequest());
+  }
+
+  /**
+   * Tests conditional retrieval of a single tutorial and of the tutorial list via If-None-Match.
+   *
+   * @throws Exception if MockMvc fails
+   */
+  @Test
+  void getTutorialsNotModified() throws Exception {
+    String etag = dispatch(mockMvc
+        .perform(get(BASE_URL + "/" + firstId)))
+        .andExpect(status().isOk())
+        .andExpect(header().exists(HttpHeaders.ETAG))
+        .andReturn()
+        .getResponse()
+        .getHeader(HttpHeaders.ETAG);
+
+    dispatch(mockMvc
+        .perform(get(BASE_URL + "/" + firstId).header(HttpHeaders.IF_NONE_MATCH, etag)))
+        .andExpect(status().isNotModified())
+        .andExpect(content().string(""));
+
+    String listEtag = dispatch(mockMvc
+        .perform(get(BASE_URL)))
+        .andExpect(status().isOk())
+        .andReturn()
+        .getResponse()
+        .getHeader(HttpHeaders.ETAG);
+
+    dispatch(mockMvc
+        .perform(get(BASE_URL).header(HttpHeaders.IF_NONE_MATCH, listEtag)))
+        .andExpect(status().isNotModified());
+
+    mockMvc
+        .perform(patch(BASE_URL + "/" + firstId).contentType(MediaType.APPLICATION_JSON)
+            .content("{\"title\":\"Servlets\"}"))
+        .andExpect(status().isOk());
+
+    dispatch(mockMvc
+        .perform(get(BASE_URL + "/" + firstId).header(HttpHeaders.IF_NONE_MATCH, etag)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("title", is("Servlets")));
+
+    dispatch(mockMvc
+        .perform(get(BASE_URL).header(HttpHeaders.IF_NONE_MATCH, listEtag)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.size()", is(3)));
+  }
+
+  /**
+   * Tests that the JSON and CBOR representations carry different ETags and that responses, including 304,
+   * vary by Accept.
+   *
+   * @throws Exception if MockMvc fails
+   */
+  @Test
+  void getTutorialsVaryByAccept() throws Exception {
+    for (String url : List.of(BASE_URL, BASE_URL + "/" + firstId)) {
+      String jsonEtag = dispatch(mockMvc
+          .perform(get(url).accept(MediaType.APPLICATION_JSON)))
+          .andExpect(status().isOk())
+          .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT)))
+          .andReturn()
+          .getResponse()
+          .getHeader(HttpHeaders.ETAG);
+
+      String cborEtag = dispatch(mockMvc
+          .perform(get(url).accept(MediaType.APPLICATION_CBOR).header(HttpHeaders.IF_NONE_MATCH, jsonEtag)))
+          .andExpect(status().isOk())
+          .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+          .andReturn()
+          .getResponse()
+          .getHeader(HttpHeaders.ETAG);
+      assertNotEquals(jsonEtag, cborEtag);
+
+      dispatch(mockMvc
+          .perform(get(url).accept(MediaType.APPLICATION_CBOR).header(HttpHeaders.IF_NONE_MATCH, cborEtag)))
+          .andExpect(status().isNotModified())
+          .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT)));
+    }
+  }
+
+  /**
+   * Tests that a conditional GET of a single tutorial answers 304 without mapping the tutorial.
+   *
+   * @throws Exception if MockMvc fails
+   */
+  @Test
+  void getTutorialByIdNotModifiedSkipsMapper() throws Exception {
+    String etag = dispatch(mockMvc
+        .perform(get(BASE_URL + "/" + firstId)))
+        .andExpect(status().isOk())
+        .andReturn()
+        .getResponse()
+        .getHeader(HttpHeaders.ETAG);
+    clearInvocations(tutorialMapper);
+
+    dispatch(mockMvc
+        .perform(get(BASE_URL + "/" + firstId).header(HttpHeaders.IF_NONE_MATCH, "\"-1\", " + etag)))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, etag))
+        .andExpect(content().string(""));
+    verify(tutorialMapper, never()).tutorialToDto(any());
+  }
+
+  /**
+   * Tests that an unexpected exception is answered with 500 and counted by exception type and root cause.
+   *
+   * @throws Exception if MockMvc fails
+   */
+  @Test
+  void getTutorialByIdFailureIsCounted() throws Exception {
+    doThrow(new IllegalStateException("mapping failed", new ArithmeticException()))
+        .when(tutorialMapper).tutorialToDto(any());
+    Counter errors = meterRegistry.counter(MetricsConfig.ERRORS_COUNTER,
+        "exception", "IllegalStateException", "cause", "ArithmeticException");
+    double before = errors.count();
+
+    dispatch(mockMvc
+        .perform(get(BASE_URL + "/" + firstId)))
+        .andExpect(status().isInternalServerError());
+
+    assertEquals(before + 1, errors.count());
+  }
+
   /**
    * Placeholder test for creating a tutorial.
    */
@@ -116,6 +676,40 @@ class TutorialControllerTest extends BaseTutorialTest {
     assertTrue(true);
   }
 
+  /**
+   * Tests partially updating a tutorial with an If-Match precondition.
+   *
+   * @throws Exception if MockMvc fails
+   */
+  @Test
+  void patchTutorial() throws Exception {
+    String etag = mockMvc
+        .perform(patch(BASE_URL + "/" + firstId).contentType(MediaType.APPLICATION_JSON)
+            .content("{\"title\":\"Servlets\"}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("title", is("Servlets")))
+        .andExpect(jsonPath("description", is(DESCRIPTION_1)))
+        .andExpect(header().exists(HttpHeaders.ETAG))
+        .andReturn()
+        .getResponse()
+        .getHeader(HttpHeaders.ETAG);
+
+    mockMvc
+        .perform(patch(BASE_URL + "/" + firstId).contentType(MediaType.APPLICATION_JSON)
+            .header(HttpHeaders.IF_MATCH, etag).content("{\"description\":\"Servlet API\"}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("description", is("Servlet API")));
+
+    mockMvc
+        .perform(patch(BASE_URL + "/" + firstId).contentType(MediaType.APPLICATION_JSON)
+            .header(HttpHeaders.IF_MATCH, etag).content("{\"title\":\"Lost update\"}"))
+        .andExpect(status().isPreconditionFailed());
+
+    mockMvc
+        .perform(patch(BASE_URL + "/0").contentType(MediaType.APPLICATION_JSON).content("{\"title\":\"x\"}"))
+        .andExpect(status().isNotFound());
+  }
+
   /**
    * Placeholder test for updating a tutorial.
    */
@@ -142,5 +736,35 @@ class TutorialControllerTest extends BaseTutorialTest {
     // TODO: should be implementet in real project
     assertTrue(true);
   }
-}
 
+  /**
+   * Waits until the streamed response contains the given text.
+   *
+   * @param result the result of the streaming request
+   * @param text the expected text
+   * @return the content of the response
+   * @throws Exception if the text does not appear within five seconds
+   */
+  private static String awaitContent(MvcResult result, String text) throws Exception {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    String content = result.getResponse().getContentAsString();
+    while (!content.contains(text) && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+      content = result.getResponse().getContentAsString();
+    }
+    assertTrue(content.contains(text), content);
+    return content;
+  }
+
+  /**
+   * Dispatches the result of an asynchronously processed request, as done by the servlet container.
+   *
+   * @param actions the actions of the performed request
+   * @return the actions of the dispatched request, or the given ones if the request was processed synchronously
+   * @throws Exception if MockMvc fails
+   */
+  private ResultActions dispatch(ResultActions actions) throws Exception {
+    MvcResult result = actions.andReturn();
+    return result.getRequest().isAsyncStarted() ? mockMvc.perform(asyncDispatch(result)) : actions;
+  }
+}
@@ -0,0 +1,171 @@
+package ipu.example.demo.controller;
+
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import ipu.example.demo.BaseTutorialTest;
+import ipu.example.demo.model.Tutorial;
+import ipu.example.demo.model.TutorialChangeEvent;
+import ipu.example.demo.service.TutorialChangeTracker;
+import ipu.example.demo.service.TutorialQueryService;
+import ipu.example.demo.service.TutorialService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+/**
+ * Integration tests for the {@link TutorialResponseCache}.
+ *
+ * <p>Tutorials inserted directly through the repository are not tracked, which makes it visible whether a
+ * response is taken from the cache, recomputed after a write through the service or revalidated after the TTL.</p>
+ */
+@SpringBootTest(properties = {
+    "ipu.example.demo.response-cache.enabled=true",
+    "ipu.example.demo.response-cache.ttl=2s",
+    "ipu.example.demo.response-cache.stale-window=1h"})
+@AutoConfigureMockMvc
+class TutorialResponseCacheTest extends BaseTutorialTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private TutorialService tutorialService;
+
+  @Autowired
+  private TutorialChangeTracker changeTracker;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @MockitoSpyBean
+  private TutorialQueryService tutorialQueryService;
+
+  /**
+   * Advances the generation, since the test data is inserted through the repository without being tracked.
+   */
+  @BeforeEach
+  void advanceGeneration() {
+    changeTracker.onTutorialChange(TutorialChangeEvent.cleared());
+  }
+
+  /**
+   * Tests that responses are served from the cache per media type until a write through the service.
+   *
+   * @throws Exception if MockMvc or the service fails
+   */
+  @Test
+  void servesCachedResponsesUntilWrite() throws Exception {
+    perform(get("/api/tutorials"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.size()", is(3)));
+    tutorialRepository.save(Tutorial.builder().title("Untracked").build());
+
+    perform(get("/api/tutorials"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.size()", is(3)));
+    perform(get("/api/tutorials").param("limit", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.size()", is(2)))
+        .andExpect(header().exists(TutorialController.NEXT_CURSOR_HEADER));
+    perform(get("/api/tutorials").header(HttpHeaders.ACCEPT, MediaType.APPLICATION_CBOR_VALUE))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+    perform(get("/api/tutorials").param("title", "x"))
+        .andExpect(status().isNoContent());
+    assertTrue(meterRegistry.get("cache.gets").tag("cache", TutorialResponseCache.CACHE_NAME)
+        .tag("result", "hit").functionCounter().count() >= 1);
+
+    tutorialService.createTutorial(testTutorial);
+    perform(get("/api/tutorials"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.size()", is(5)));
+  }
+
+  /**
+   * Tests that the representation is negotiated by quality values, for cached responses and their ETags.
+   *
+   * @throws Exception if MockMvc fails
+   */
+  @Test
+  void negotiatesByQuality() throws Exception {
+    perform(get("/api/tutorials").header(HttpHeaders.ACCEPT, "application/cbor;q=0.1, application/json"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(jsonPath("$.size()", is(3)));
+    perform(get("/api/tutorials").header(HttpHeaders.ACCEPT, "*/*;q=0.2, application/json;q=0"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+        .andExpect(header().string(HttpHeaders.ETAG, endsWith("-cbor\"")));
+    perform(get("/api/tutorials/" + firstId).header(HttpHeaders.ACCEPT, "*/*;q=0.2, application/json;q=0"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+        .andExpect(header().string(HttpHeaders.ETAG, endsWith("-cbor\"")));
+  }
+
+  /**
+   * Tests that a stale response is returned immediately and replaced by a background reload.
+   * The reload is held back until the stale response has been returned, since a reload completing
+   * immediately would be returned instead.
+   *
+   * @throws Exception if MockMvc fails
+   */
+  @Test
+  void revalidatesStaleResponses() throws Exception {
+    perform(get("/api/tutorials/search").param("q", "kafka"))
+        .andExpect(jsonPath("$.size()", is(1)));
+    tutorialRepository.save(Tutorial.builder().title("Kafka Streams").build());
+    CountDownLatch reloadBlocked = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      reloadBlocked.await(5, TimeUnit.SECONDS);
+      return invocation.callRealMethod();
+    }).when(tutorialQueryService).search(anyString(), anyInt());
+    Thread.sleep(2100);
+
+    perform(get("/api/tutorials/search").param("q", " KAFKA "))
+        .andExpect(jsonPath("$.size()", is(1)));
+    reloadBlocked.countDown();
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    String content;
+    do {
+      Thread.sleep(10);
+      content = perform(get("/api/tutorials/search").param("q", "Kafka")).andReturn().getResponse()
+          .getContentAsString();
+    } while (!content.contains("Kafka Streams") && System.nanoTime() < deadline);
+    assertTrue(content.contains("Kafka Streams"), content);
+  }
+
+  /**
+   * Performs a request and dispatches its asynchronous result.
+   *
+   * @param request the request
+   * @return the actions of the dispatched request
+   * @throws Exception if MockMvc fails
+   */
+  private ResultActions perform(MockHttpServletRequestBuilder request) throws Exception {
+    MvcResult result = mockMvc.perform(request).andReturn();
+    return mockMvc.perform(asyncDispatch(result));
+  }
+}
@@ -0,0 +1,145 @@
+package ipu.example.demo.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import ipu.example.demo.BaseTutorialTest;
+import ipu.example.demo.model.ServiceException;
+import ipu.example.demo.service.TutorialQueryService;
+import ipu.example.demo.service.TutorialService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.TransientDataAccessResourceException;
+
+/**
+ * Integration tests for the {@link TutorialRepositoryBulkhead}.
+ *
+ * <p>Runs with a bulkhead of a single permit to verify that database accesses are guarded,
+ * the permits are released and the queue time is recorded, and that the reads of the
+ * {@link TutorialQueryService} neither acquire nested permits nor starve concurrent callers.</p>
+ */
+@SpringBootTest(properties = {
+    "ipu.example.demo.bulkhead.enabled=true",
+    "ipu.example.demo.bulkhead.max-concurrent-calls=1",
+    "ipu.example.demo.bulkhead.max-wait=200ms"})
+class TutorialRepositoryBulkheadTest extends BaseTutorialTest {
+
+  @Autowired
+  private TutorialRepositoryBulkhead bulkhead;
+
+  @Autowired
+  private TutorialService tutorialService;
+
+  @Autowired
+  private TutorialQueryService tutorialQueryService;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  /**
+   * Tests that service calls, including transactional ones, acquire and release the permit.
+   */
+  @Test
+  void guardsDatabaseAccess() throws ServiceException {
+    long acquired = meterRegistry.get(TutorialRepositoryBulkhead.WAIT_TIMER).tag("outcome", "acquired").timer().count();
+
+    assertEquals(3, tutorialService.getAllTutorials().size());
+    tutorialService.deleteTutorials(List.of(firstId));
+    assertEquals(2, tutorialService.getAllTutorials().size());
+
+    assertEquals(1, bulkhead.availablePermits());
+    assertTrue(meterRegistry.get(TutorialRepositoryBulkhead.WAIT_TIMER).tag("outcome", "acquired").timer().count()
+        >= acquired + 3);
+  }
+
+  /**
+   * Tests that a database access is rejected if the permit is not released within the maximum wait time.
+   */
+  @Test
+  void rejectsWhenFull() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<?> holder = executor.submit(() -> {
+        try {
+          tutorialService.exportTutorials(tutorial -> {
+            started.countDown();
+            try {
+              release.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          });
+        } catch (ServiceException e) {
+          throw new IllegalStateException(e);
+        }
+      });
+      assertTrue(started.await(5, TimeUnit.SECONDS));
+
+      assertThrows(TransientDataAccessResourceException.class, () -> tutorialRepository.count());
+
+      release.countDown();
+      holder.get();
+    } finally {
+      executor.shutdownNow();
+    }
+    assertEquals(1, bulkhead.availablePermits());
+  }
+
+  /**
+   * Tests that the reads of the query service, which run without a transaction of their own, pass with a single
+   * permit and release it.
+   */
+  @Test
+  void guardsQueryServiceReads() throws ServiceException {
+    assertEquals(3, tutorialQueryService.getAllTutorials().size());
+    assertEquals(1, tutorialQueryService.findByTitleContaining("jdbc").size());
+    assertEquals(2, tutorialQueryService.findByDescriptionContaining("java").size());
+    assertEquals(2, tutorialQueryService.getTutorialsAfter(firstId, 10).getContent().size());
+
+    assertEquals(1, bulkhead.availablePermits());
+  }
+
+  /**
+   * Tests that concurrent list and search calls of the query service all complete with a single permit.
+   */
+  @Test
+  void concurrentQueryServiceReadsDoNotStarve() throws Exception {
+    int callers = 8;
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(callers);
+    try {
+      List<Future<?>> results = new ArrayList<>();
+      for (int i = 0; i < callers; i++) {
+        results.add(executor.submit(() -> {
+          start.await();
+          for (int call = 0; call < 20; call++) {
+            List<?> all = tutorialQueryService.getAllTutorials(); if (all.size() != 3) { System.out.println("DBG call=" + call + " " + Thread.currentThread().getName() + " " + all + " " + all.getClass() + " count=" + tutorialRepository.count()); new Throwable().printStackTrace(System.out); }
+            assertEquals(3, all.size());
+            assertEquals(1, tutorialQueryService.findByTitleContaining("jdbc").size());
+            assertEquals(2, tutorialQueryService.findByDescriptionContaining("java").size());
+          }
+          return null;
+        }));
+      }
+      start.countDown();
+      for (Future<?> result : results) {
+        result.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertEquals(1, bulkhead.availablePermits());
+  }
+}
@@ -0,0 +1,108 @@
+package ipu.example.demo.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import ipu.example.demo.BaseTutorialTest;
+import ipu.example.demo.config.SecondLevelCacheConfig;
+import ipu.example.demo.dto.TutorialDto;
+import ipu.example.demo.model.ServiceException;
+import ipu.example.demo.model.Tutorial;
+import ipu.example.demo.service.TutorialService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Integration tests for the Hibernate second-level and query cache of the {@code l2cache} profile.
+ *
+ * <p>Verifies that lookups by ID and finder results are answered from the cache, that writes invalidate
+ * cached results and that the cache statistics are published.</p>
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("l2cache")
+class TutorialSecondLevelCacheTest extends BaseTutorialTest {
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private TutorialService tutorialService;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  private Statistics statistics;
+
+  /**
+   * Resets the Hibernate statistics after the test data has been inserted.
+   */
+  @BeforeEach
+  void resetStatistics() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+  }
+
+  /**
+   * Tests that a tutorial is loaded from the database once and afterwards found in the entity region.
+   */
+  @Test
+  void cachesTutorialsById() {
+    assertEquals(TITLE_1, tutorialRepository.findById(firstId).orElseThrow().getTitle());
+    assertEquals(TITLE_1, tutorialRepository.findById(firstId).orElseThrow().getTitle());
+
+    CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(Tutorial.CACHE_REGION);
+    assertTrue(region.getHitCount() >= 1, "hits " + region.getHitCount());
+    assertTrue(meterRegistry.get(SecondLevelCacheConfig.SIZE_GAUGE).tag("region", Tutorial.CACHE_REGION)
+        .gauge().value() >= 1);
+    assertTrue(meterRegistry.get("hibernate.second.level.cache.requests").tag("region", Tutorial.CACHE_REGION)
+        .tag("result", "hit").functionCounter().count() >= 1);
+  }
+
+  /**
+   * Tests that projected finder results are cached and invalidated by an insert, and that finders returning
+   * entities are not cached.
+   */
+  @Test
+  void cachesFinderResultsUntilWrite() {
+    assertEquals(1, tutorialRepository.findByTitleContainingIgnoreCase("jdbc", TutorialDto.class).size());
+    assertEquals(1, tutorialRepository.findByTitleContainingIgnoreCase("jdbc", TutorialDto.class).size());
+    assertEquals(1, statistics.getQueryCacheHitCount());
+
+    tutorialRepository.save(Tutorial.builder().title("JDBC Batching").description(DESCRIPTION_1).build());
+
+    assertEquals(2, tutorialRepository.findByTitleContainingIgnoreCase("jdbc", TutorialDto.class).size());
+    assertEquals(1, statistics.getQueryCacheHitCount());
+
+    statistics.clear();
+    tutorialRepository.findByTitleContainingIgnoreCase("jdbc");
+    tutorialRepository.findByTitleContainingIgnoreCase("jdbc");
+    assertEquals(0, statistics.getQueryCachePutCount());
+  }
+
+  /**
+   * Tests that a soft delete evicts the tutorial and that loading tombstones does not cache them.
+   *
+   * @throws ServiceException if the service fails
+   */
+  @Test
+  void doesNotCacheTombstones() throws ServiceException {
+    assertTrue(tutorialRepository.findById(firstId).isPresent());
+    assertEquals(3, tutorialRepository.findAllByOrderByIdAsc(TutorialDto.class).size());
+
+    tutorialService.deleteTutorial(firstId);
+    assertTrue(tutorialRepository.findWrittenAfter(0L, Long.MAX_VALUE, Long.MAX_VALUE, 10).stream()
+        .anyMatch(tutorial -> tutorial.getId() == firstId && tutorial.isDeleted()));
+
+    assertFalse(tutorialRepository.findById(firstId).isPresent());
+    assertEquals(2, tutorialRepository.findAllByOrderByIdAsc(TutorialDto.class).size());
+  }
+}
@@ -0,0 +1,61 @@
+package ipu.example.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import ipu.example.demo.BaseTutorialTest;
+import ipu.example.demo.dto.TutorialChangeDto;
+import ipu.example.demo.model.ServiceException;
+import ipu.example.demo.model.Tutorial;
+import ipu.example.demo.model.TutorialChangeEvent;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Integration tests for the {@link TutorialChangeFeed}.
+ *
+ * <p>Verifies that changes made through the {@link TutorialService} are appended with consecutive
+ * sequence numbers and can be read after a given sequence number.</p>
+ */
+@SpringBootTest
+class TutorialChangeFeedTest extends BaseTutorialTest {
+
+  @Autowired
+  private TutorialChangeFeed changeFeed;
+
+  @Autowired
+  private TutorialService tutorialService;
+
+  /**
+   * Tests that created, updated and deleted tutorials are appended in order.
+   */
+  @Test
+  void appendsServiceChanges() throws ServiceException {
+    long before = changeFeed.getLastSequence();
+    assertFalse(changeFeed.hasChangesAfter(before));
+
+    Tutorial created = tutorialService.createTutorial(Tutorial.builder().title(TITLE_4).build());
+    tutorialService.updateTutorial(created.getId(), Tutorial.builder().title("JSF").build());
+    tutorialService.deleteTutorial(created.getId());
+
+    assertEquals(before + 3, changeFeed.getLastSequence());
+    assertTrue(changeFeed.hasChangesAfter(before));
+    List<TutorialChangeDto> changes = changeFeed.readAfter(before, 10);
+    assertEquals(3, changes.size());
+    assertEquals(before + 1, changes.get(0).getSequence());
+    assertEquals(TutorialChangeEvent.Type.CREATED, changes.get(0).getType());
+    assertEquals(TITLE_4, changes.get(0).getTutorial().getTitle());
+    assertEquals(TutorialChangeEvent.Type.UPDATED, changes.get(1).getType());
+    assertEquals("JSF", changes.get(1).getTutorial().getTitle());
+    assertEquals(TutorialChangeEvent.Type.DELETED, changes.get(2).getType());
+    assertEquals(created.getId(), changes.get(2).getId());
+    assertNull(changes.get(2).getTutorial());
+
+    assertEquals(1, changeFeed.readAfter(before + 1, 1).size());
+    assertTrue(changeFeed.readAfter(before + 3, 10).isEmpty());
+  }
+}
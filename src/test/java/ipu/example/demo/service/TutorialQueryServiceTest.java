@@ -0,0 +1,151 @@
+package ipu.example.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import ipu.example.demo.BaseTutorialTest;
+import ipu.example.demo.dto.TutorialDeltaDto;
+import ipu.example.demo.dto.TutorialDto;
+import ipu.example.demo.dto.TutorialSearchResultDto;
+import ipu.example.demo.mapper.TutorialMapper;
+import ipu.example.demo.model.ServiceException;
+import ipu.example.demo.model.Tutorial;
+import ipu.example.demo.repository.TutorialRevisions;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Window;
+
+/**
+ * Integration tests for the {@link TutorialQueryService}.
+ *
+ * <p>Verifies that the DTO projections return the same tutorials as the {@link TutorialService}
+ * mapped by the {@link TutorialMapper}.</p>
+ */
+@SpringBootTest
+class TutorialQueryServiceTest extends BaseTutorialTest {
+
+  @Autowired
+  private TutorialQueryService tutorialQueryService;
+
+  @Autowired
+  private TutorialService tutorialService;
+
+  @Autowired
+  private TutorialMapper tutorialMapper;
+
+  @Autowired
+  private TutorialRevisions revisions;
+
+  /**
+   * Tests that the list and search projections match the mapped entities.
+   */
+  @Test
+  void listsMatchEntities() throws ServiceException {
+    assertEquals(tutorialMapper.tutorialsToDtos(tutorialService.getTutorialsAfter(0L, 10).getContent()),
+        tutorialQueryService.getAllTutorials());
+    for (String text : List.of("java", "KAFKA", "x")) {
+      assertEquals(tutorialMapper.tutorialsToDtos(tutorialService.findByTitleContaining(text)),
+          tutorialQueryService.findByTitleContaining(text), "title: " + text);
+      assertEquals(tutorialMapper.tutorialsToDtos(tutorialService.findByDescriptionContaining(text)),
+          tutorialQueryService.findByDescriptionContaining(text), "description: " + text);
+    }
+  }
+
+  /**
+   * Tests retrieving the projections page by page.
+   */
+  @Test
+  void pagesMatchEntities() throws ServiceException {
+    Window<TutorialDto> first = tutorialQueryService.getTutorialsAfter(0L, 2);
+    assertEquals(2, first.size());
+    assertTrue(first.hasNext());
+    assertEquals(tutorialMapper.tutorialsToDtos(tutorialService.getTutorialsAfter(0L, 2).getContent()),
+        first.getContent());
+
+    Window<TutorialDto> second = tutorialQueryService.getTutorialsAfter(first.getContent().get(1).getId(), 2);
+    assertEquals(1, second.size());
+    assertFalse(second.hasNext());
+    assertEquals(TITLE_3, second.getContent().get(0).getTitle());
+
+    assertEquals(tutorialMapper.tutorialsToDtos(tutorialService.findByTitleContainingAfter("a", 0L, 1).getContent()),
+        tutorialQueryService.findByTitleContainingAfter("a", 0L, 1).getContent());
+    assertEquals(
+        tutorialMapper.tutorialsToDtos(tutorialService.findByDescriptionContainingAfter("a", 0L, 1).getContent()),
+        tutorialQueryService.findByDescriptionContainingAfter("a", 0L, 1).getContent());
+  }
+
+  /**
+   * Tests that the ranked search scores title matches higher and keeps only the best results.
+   */
+  @Test
+  void searchRanksBestMatches() throws ServiceException {
+    List<TutorialSearchResultDto> results = tutorialQueryService.search("s", 10);
+    assertEquals(List.of(TITLE_2, TITLE_1), results.stream().map(TutorialSearchResultDto::getTitle).toList());
+    assertTrue(results.get(0).getScore() > results.get(1).getScore());
+
+    assertEquals(List.of(TITLE_1), tutorialQueryService.search("J", 1).stream()
+        .map(TutorialSearchResultDto::getTitle).toList());
+    assertEquals(List.of(TITLE_2), tutorialQueryService.search("server  JAVA", 10).stream()
+        .map(TutorialSearchResultDto::getTitle).toList());
+    assertEquals(List.of(TITLE_3), tutorialQueryService.search("kafka", 10).stream()
+        .map(TutorialSearchResultDto::getTitle).toList());
+    assertTrue(tutorialQueryService.search("java kafka", 10).isEmpty());
+    assertTrue(tutorialQueryService.search(" ", 10).isEmpty());
+  }
+
+  /**
+   * Tests that the changes since a revision contain updated and created tutorials and the IDs of deleted ones,
+   * and that deleted tutorials are no longer found.
+   */
+  @Test
+  void changesSinceRevision() throws ServiceException {
+    long since = revisions.getHighWaterMark();
+    long secondId = tutorialService.getTutorialsAfter(firstId, 1).getContent().get(0).getId();
+    tutorialService.updateTutorial(firstId, Tutorial.builder().title("JDBC 4").description(DESCRIPTION_1).build());
+    tutorialService.deleteTutorial(secondId);
+    Tutorial created = tutorialService.createTutorial(testTutorial);
+
+    TutorialDeltaDto delta = tutorialQueryService.getChangesSince(since, null, 10);
+    assertEquals(List.of(firstId, created.getId()), delta.getChanged().stream().map(TutorialDto::getId).toList());
+    assertEquals("JDBC 4", delta.getChanged().get(0).getTitle());
+    assertEquals(List.of(secondId), delta.getDeleted());
+    assertFalse(delta.isHasMore());
+    assertEquals(revisions.getHighWaterMark(), delta.getRevision());
+    assertNull(delta.getAfterId());
+    assertTrue(tutorialService.getTutorialById(secondId).isEmpty());
+    assertFalse(tutorialQueryService.existsTutorialById(secondId));
+    assertEquals(3, tutorialQueryService.countTutorials(null, null));
+
+    TutorialDeltaDto empty = tutorialQueryService.getChangesSince(delta.getRevision(), delta.getAfterId(), 10);
+    assertTrue(empty.getChanged().isEmpty());
+    assertTrue(empty.getDeleted().isEmpty());
+    assertEquals(delta.getRevision(), empty.getRevision());
+  }
+
+  /**
+   * Tests that the changes are paged by revision and ID, so a revision larger than a page is split across pages.
+   */
+  @Test
+  void changesArePagedWithinRevision() throws ServiceException {
+    long since = revisions.getHighWaterMark();
+    List<Long> ids = tutorialService.getTutorialsAfter(0L, 10).getContent().stream().map(Tutorial::getId).toList();
+    tutorialService.deleteTutorials(ids);
+    tutorialService.createTutorial(testTutorial);
+
+    TutorialDeltaDto first = tutorialQueryService.getChangesSince(since, null, 2);
+    assertEquals(ids.subList(0, 2), first.getDeleted());
+    assertTrue(first.getChanged().isEmpty());
+    assertEquals(ids.get(1), first.getAfterId());
+    assertTrue(first.isHasMore());
+
+    TutorialDeltaDto second = tutorialQueryService.getChangesSince(first.getRevision(), first.getAfterId(), 2);
+    assertEquals(ids.subList(2, 3), second.getDeleted());
+    assertEquals(List.of(TITLE_4), second.getChanged().stream().map(TutorialDto::getTitle).toList());
+    assertNull(second.getAfterId());
+    assertFalse(second.isHasMore());
+  }
+}
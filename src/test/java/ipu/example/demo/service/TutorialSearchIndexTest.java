@@ -0,0 +1,91 @@
+package ipu.example.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import ipu.example.demo.BaseTutorialTest;
+import ipu.example.demo.dto.TutorialSearchResultDto;
+import ipu.example.demo.model.ServiceException;
+import ipu.example.demo.model.Tutorial;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Integration tests for the {@link TutorialSearchIndex}.
+ *
+ * <p>Verifies that searches answered by the index return the same tutorials as the
+ * database queries and that the index follows changes made through the {@link TutorialService}.</p>
+ */
+@SpringBootTest(properties = "ipu.example.demo.search-index.enabled=true")
+class TutorialSearchIndexTest extends BaseTutorialTest {
+
+  @Autowired
+  private TutorialSearchIndex searchIndex;
+
+  @Autowired
+  private TutorialService tutorialService;
+
+  @Autowired
+  private TutorialQueryService tutorialQueryService;
+
+  /**
+   * Rebuilds the index, as the test data is written directly through the repository.
+   */
+  @BeforeEach
+  void rebuildIndex() {
+    searchIndex.rebuild();
+    assertTrue(searchIndex.isReady());
+  }
+
+  /**
+   * Tests that title and description searches return the same tutorials as the database.
+   */
+  @Test
+  void searchMatchesDatabase() {
+    for (String text : List.of("J", "j", "Ka", "JSP", "kAfKa", "Java", "a", "java server", "Servlet", "")) {
+      assertEquals(ids(tutorialRepository.findByTitleContainingIgnoreCase(text)),
+          ids(searchIndex.findByTitleContaining(text)), "title: " + text);
+      assertEquals(ids(tutorialRepository.findByDescriptionContainingIgnoreCase(text)),
+          ids(searchIndex.findByDescriptionContaining(text)), "description: " + text);
+    }
+  }
+
+  /**
+   * Tests that the index follows tutorials created, updated and deleted through the service.
+   */
+  @Test
+  void followsServiceChanges() throws ServiceException {
+    Tutorial created = tutorialService.createTutorial(testTutorial);
+    assertEquals(List.of(created.getId()), ids(tutorialService.findByDescriptionContaining("faces")));
+
+    tutorialService.updateTutorial(created.getId(), Tutorial.builder().title("Spring").description("Boot").build());
+    assertTrue(tutorialService.findByDescriptionContaining("faces").isEmpty());
+    assertEquals(List.of(created.getId()), ids(tutorialService.findByTitleContaining("RING")));
+
+    tutorialService.deleteTutorial(created.getId());
+    assertTrue(tutorialService.findByTitleContaining("spring").isEmpty());
+
+    tutorialService.deleteAllTutorials();
+    assertTrue(tutorialService.findByTitleContaining("").isEmpty());
+  }
+
+  private static List<Long> ids(List<Tutorial> tutorials) {
+    return tutorials.stream().map(Tutorial::getId).sorted().toList();
+  }
+
+  /**
+   * Tests that the ranked search answered by the index returns the same results as the database.
+   */
+  @Test
+  void rankedSearchMatchesDatabase() throws ServiceException {
+    assertEquals(List.of(TITLE_2, TITLE_1), tutorialQueryService.search("s", 10).stream()
+        .map(TutorialSearchResultDto::getTitle).toList());
+    assertEquals(List.of(TITLE_2), tutorialQueryService.search("server  JAVA", 10).stream()
+        .map(TutorialSearchResultDto::getTitle).toList());
+    assertEquals(List.of(TITLE_1), tutorialQueryService.search("J", 1).stream()
+        .map(TutorialSearchResultDto::getTitle).toList());
+  }
+}
@@ -1,14 +1,23 @@
 package ipu.example.demo.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import ipu.example.demo.BaseTutorialTest;
+import ipu.example.demo.config.MetricsConfig;
 import ipu.example.demo.model.ServiceException;
 import ipu.example.demo.model.Tutorial;
+import ipu.example.demo.model.VersionConflictException;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Window;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
 import org.junit.jupiter.api.Order;
@@ -48,6 +57,18 @@ class TutorialServiceTest  extends BaseTutorialTest {
   @Autowired
   private TutorialService tutorialService;
 
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Autowired
+  private TutorialQueryService tutorialQueryService;
+
+  @Autowired
+  private TutorialAsyncService tutorialAsyncService;
+
+  @Autowired
+  private TutorialChangeTracker changeTracker;
+
   /**
    * Tests retrieval of all tutorials.
    */
@@ -180,4 +201,169 @@ class TutorialServiceTest  extends BaseTutorialTest {
       fail();
     }
   }
+
+  /**
+   * Tests paging through all tutorials and through filtered tutorials using keyset pagination.
+   */
+  @Test
+  @Order(9)
+  void getTutorialsAfter() throws ServiceException {
+    Window<Tutorial> firstPage = tutorialService.getTutorialsAfter(0L, 2);
+    assertEquals(2, firstPage.size());
+    assertTrue(firstPage.hasNext());
+    assertEquals(firstId, firstPage.getContent().get(0).getId());
+
+    long lastId = firstPage.getContent().get(1).getId();
+    Window<Tutorial> secondPage = tutorialService.getTutorialsAfter(lastId, 2);
+    assertEquals(1, secondPage.size());
+    assertFalse(secondPage.hasNext());
+    assertEquals(TITLE_3, secondPage.getContent().get(0).getTitle());
+
+    Window<Tutorial> titlePage = tutorialService.findByTitleContainingAfter("J", firstId, 2);
+    assertEquals(1, titlePage.size());
+    assertEquals(TITLE_2, titlePage.getContent().get(0).getTitle());
+
+    Window<Tutorial> descriptionPage = tutorialService.findByDescriptionContainingAfter("java", 0L, 1);
+    assertEquals(1, descriptionPage.size());
+    assertTrue(descriptionPage.hasNext());
+  }
+
+  /**
+   * Tests that tutorials are read from the cache and that the cache follows changes made through the service.
+   */
+  @Test
+  @Order(10)
+  void getTutorialByIdIsCached() throws ServiceException {
+    assertTrue(tutorialService.getTutorialById(firstId).isPresent());
+
+    // callers receive copies, so changing a returned tutorial does not change the cached one
+    tutorialService.getTutorialById(firstId).orElseThrow().setTitle(TITLE_4);
+    assertEquals(TITLE_1, tutorialService.getTutorialById(firstId).orElseThrow().getTitle());
+
+    // deleting behind the service's back is not visible while the tutorial is cached
+    tutorialRepository.deleteById(firstId);
+    assertTrue(tutorialService.getTutorialById(firstId).isPresent());
+
+    tutorialService.deleteTutorial(firstId);
+    assertFalse(tutorialService.getTutorialById(firstId).isPresent());
+
+    Tutorial created = tutorialService.createTutorial(testTutorial);
+    assertEquals(TITLE_4, tutorialService.getTutorialById(created.getId()).orElseThrow().getTitle());
+    tutorialService.updateTutorial(created.getId(), Tutorial.builder().title(TITLE_1).build());
+    assertEquals(TITLE_1, tutorialService.getTutorialById(created.getId()).orElseThrow().getTitle());
+  }
+
+  /**
+   * Tests creating many tutorials at once.
+   */
+  @Test
+  @Order(11)
+  void createTutorials() throws ServiceException {
+    List<Tutorial> created = tutorialService.createTutorials(List.of(testTutorial,
+        Tutorial.builder().title(TITLE_1).build()));
+    assertEquals(2, created.size());
+    assertEquals(TITLE_4, created.get(0).getTitle());
+    assertTrue(created.get(1).getId() > created.get(0).getId());
+    assertEquals(5, tutorialService.getAllTutorials().size());
+  }
+
+  /**
+   * Tests deleting many tutorials by their IDs.
+   */
+  @Test
+  @Order(12)
+  void deleteTutorials() throws ServiceException {
+    Tutorial created = tutorialService.createTutorial(testTutorial);
+    assertTrue(tutorialService.getTutorialById(firstId).isPresent());
+
+    long generation = changeTracker.getGeneration();
+    assertEquals(2, tutorialService.deleteTutorials(List.of(firstId, created.getId(), firstId, -1L)));
+    assertEquals(2, tutorialService.getAllTutorials().size());
+    assertFalse(tutorialService.getTutorialById(firstId).isPresent());
+    // one change per deleted tutorial, none for the unknown ID
+    assertEquals(generation + 2, changeTracker.getGeneration());
+
+    // unknown and already deleted IDs do not change anything
+    assertEquals(0, tutorialService.deleteTutorials(List.of(firstId, -1L)));
+    tutorialService.deleteTutorial(firstId);
+    assertEquals(generation + 2, changeTracker.getGeneration());
+  }
+
+  /**
+   * Tests partially updating a tutorial with and without version check.
+   */
+  @Test
+  @Order(13)
+  void patchTutorial() throws ServiceException {
+    Tutorial original = tutorialService.getTutorialById(firstId).orElseThrow();
+    long version = original.getVersion();
+
+    Tutorial patched = tutorialService.patchTutorial(firstId, Tutorial.builder().title(TITLE_4).build(), version)
+        .orElseThrow();
+    assertEquals(TITLE_4, patched.getTitle());
+    assertEquals(DESCRIPTION_1, patched.getDescription());
+    assertEquals(version + 1, patched.getVersion());
+    assertEquals(TITLE_4, tutorialService.getTutorialById(firstId).orElseThrow().getTitle());
+
+    Tutorial change = Tutorial.builder().description(DESCRIPTION_4).build();
+    assertThrows(VersionConflictException.class, () -> tutorialService.patchTutorial(firstId, change, version));
+    assertEquals(DESCRIPTION_4, tutorialService.patchTutorial(firstId, change, null).orElseThrow().getDescription());
+    assertFalse(tutorialService.patchTutorial(-1L, change, null).isPresent());
+    assertFalse(tutorialService.patchTutorial(-1L, change, version).isPresent());
+  }
+
+  /**
+   * Tests that service calls and repository row counts are recorded as metrics.
+   */
+  @Test
+  @Order(14)
+  void recordsMetrics() {
+    tutorialService.getAllTutorials();
+
+    Timer timer = meterRegistry.find(MetricsConfig.SERVICE_TIMER).tag("method", "getAllTutorials").timer();
+    assertNotNull(timer);
+    assertTrue(timer.count() > 0);
+    DistributionSummary rows = meterRegistry.find(MetricsConfig.REPOSITORY_ROWS).tag("method", "findAll").summary();
+    assertNotNull(rows);
+    assertTrue(rows.count() > 0);
+    assertTrue(rows.max() >= 3);
+  }
+
+  /**
+   * Tests that the asynchronous service returns the same results as the synchronous one.
+   */
+  @Test
+  @Order(15)
+  void asyncServiceMatchesSync() throws Exception {
+    assertEquals(tutorialQueryService.getAllTutorials(), tutorialAsyncService.getAllTutorialsAsync().get());
+    assertEquals(tutorialService.getTutorialById(firstId), tutorialAsyncService.getTutorialByIdAsync(firstId).get());
+    assertEquals(tutorialQueryService.findByTitleContaining("java"),
+        tutorialAsyncService.findByTitleContainingAsync("java").get());
+    assertEquals(tutorialQueryService.getTutorialsAfter(0L, 2).getContent(),
+        tutorialAsyncService.getTutorialsAfterAsync(0L, 2).get().getContent());
+  }
+
+  /**
+   * Tests retrieving tutorials by IDs in request order, preferring cached tutorials.
+   */
+  @Test
+  @Order(16)
+  void getTutorialsByIds() throws ServiceException {
+    Tutorial created = tutorialService.createTutorial(testTutorial);
+    assertTrue(tutorialService.getTutorialById(firstId).isPresent());
+
+    // deleting behind the service's back is not visible while the tutorial is cached
+    tutorialRepository.deleteById(firstId);
+    List<Optional<Tutorial>> tutorials = tutorialService.getTutorialsByIds(
+        List.of(created.getId(), -1L, firstId, created.getId()));
+
+    assertEquals(4, tutorials.size());
+    assertEquals(TITLE_4, tutorials.get(0).orElseThrow().getTitle());
+    assertFalse(tutorials.get(1).isPresent());
+    assertEquals(TITLE_1, tutorials.get(2).orElseThrow().getTitle());
+    assertEquals(created.getId(), tutorials.get(3).orElseThrow().getId());
+    // tutorials loaded by the batch lookup are not cached
+    tutorialRepository.deleteById(created.getId());
+    assertFalse(tutorialService.getTutorialById(created.getId()).isPresent());
+  }
 }
@@ -0,0 +1,79 @@
+package ipu.example.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import ipu.example.demo.model.ServiceException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link TutorialSingleFlight}.
+ *
+ * <p>Blocks the first execution of a key to verify that concurrent callers share it, and that callers
+ * arriving after it has finished or with another key run their own execution.</p>
+ */
+class TutorialSingleFlightTest {
+
+  private final Counter shared = Counter.builder("shared").register(new SimpleMeterRegistry());
+
+  private final TutorialSingleFlight<List<String>> singleFlight = new TutorialSingleFlight<>(shared);
+
+  /**
+   * Tests that concurrent callers of a key share one execution and its result.
+   */
+  @Test
+  void sharesConcurrentExecution() throws Exception {
+    AtomicInteger executions = new AtomicInteger();
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      Future<List<String>> first = executor.submit(() -> singleFlight.execute("key", () -> {
+        executions.incrementAndGet();
+        started.countDown();
+        release.await();
+        return List.of("result");
+      }));
+      assertTrue(started.await(5, TimeUnit.SECONDS));
+      List<Future<List<String>>> joined = List.of(
+          executor.submit(() -> singleFlight.execute("key", () -> List.of("other"))),
+          executor.submit(() -> singleFlight.execute("key", () -> List.of("other"))));
+      while (shared.count() < 2) {
+        Thread.onSpinWait();
+      }
+      assertEquals(List.of("own"), singleFlight.execute("other key", () -> List.of("own")));
+      release.countDown();
+
+      for (Future<List<String>> future : joined) {
+        assertSame(first.get(), future.get());
+      }
+      assertEquals(1, executions.get());
+    } finally {
+      executor.shutdownNow();
+    }
+    assertEquals(List.of("after"), singleFlight.execute("key", () -> List.of("after")));
+  }
+
+  /**
+   * Tests that the failure of an execution is passed on and not kept.
+   */
+  @Test
+  void doesNotKeepFailures() throws ServiceException {
+    ServiceException failure = new ServiceException("failed", null);
+    assertSame(failure, assertThrows(ServiceException.class, () -> singleFlight.execute("key", () -> {
+      throw failure;
+    })));
+    assertEquals(List.of("retry"), singleFlight.execute("key", () -> List.of("retry")));
+  }
+}
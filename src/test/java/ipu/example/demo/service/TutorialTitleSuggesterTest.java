@@ -0,0 +1,74 @@
+package ipu.example.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import ipu.example.demo.BaseTutorialTest;
+import ipu.example.demo.dto.TutorialSuggestionDto;
+import ipu.example.demo.model.ServiceException;
+import ipu.example.demo.model.Tutorial;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Integration tests for the {@link TutorialTitleSuggester}.
+ *
+ * <p>Verifies the prefix lookups and that the suggester follows changes made through the
+ * {@link TutorialService}.</p>
+ */
+@SpringBootTest
+class TutorialTitleSuggesterTest extends BaseTutorialTest {
+
+  @Autowired
+  private TutorialTitleSuggester titleSuggester;
+
+  @Autowired
+  private TutorialService tutorialService;
+
+  /**
+   * Rebuilds the suggester, as the test data is written directly through the repository.
+   */
+  @BeforeEach
+  void rebuildSuggester() {
+    titleSuggester.rebuild();
+    assertTrue(titleSuggester.isReady());
+  }
+
+  /**
+   * Tests prefix lookups ignoring case and the limit.
+   */
+  @Test
+  void suggestsByPrefix() {
+    assertEquals(List.of(TITLE_1, TITLE_2), titles(titleSuggester.suggest("j", 10)));
+    assertEquals(List.of(TITLE_1), titles(titleSuggester.suggest(" J", 1)));
+    assertEquals(List.of(TITLE_2), titles(titleSuggester.suggest("jS", 10)));
+    assertEquals(List.of(TITLE_3), titles(titleSuggester.suggest("KAF", 10)));
+    assertTrue(titleSuggester.suggest("x", 10).isEmpty());
+  }
+
+  /**
+   * Tests that created, updated and deleted tutorials are reflected in the suggestions.
+   */
+  @Test
+  void followsServiceChanges() throws ServiceException {
+    Tutorial created = tutorialService.createTutorial(Tutorial.builder().title("Jakarta  EE").build());
+    assertEquals(List.of("Jakarta  EE"), titles(titleSuggester.suggest("jakarta e", 10)));
+
+    tutorialService.updateTutorial(created.getId(), Tutorial.builder().title("Quarkus").build());
+    assertTrue(titleSuggester.suggest("jakarta", 10).isEmpty());
+    assertEquals(List.of("Quarkus"), titles(titleSuggester.suggest("q", 10)));
+
+    tutorialService.deleteTutorial(created.getId());
+    assertTrue(titleSuggester.suggest("q", 10).isEmpty());
+
+    tutorialService.deleteAllTutorials();
+    assertTrue(titleSuggester.suggest("j", 10).isEmpty());
+  }
+
+  private static List<String> titles(List<TutorialSuggestionDto> suggestions) {
+    return suggestions.stream().map(TutorialSuggestionDto::getTitle).toList();
+  }
+}
@@ -0,0 +1,143 @@
+package ipu.example.demo.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import ipu.example.demo.BaseTutorialTest;
+import ipu.example.demo.model.ServiceException;
+import ipu.example.demo.model.Tutorial;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Integration tests for the {@link TutorialWriteCoalescer}.
+ *
+ * <p>Runs with a long maximum wait, so tutorials submitted together end up in one group commit.</p>
+ */
+@SpringBootTest(properties = {
+    "ipu.example.demo.write-coalescing.enabled=true",
+    "ipu.example.demo.write-coalescing.max-batch-size=10",
+    "ipu.example.demo.write-coalescing.max-wait=200ms"})
+class TutorialWriteCoalescerTest extends BaseTutorialTest {
+
+  @Autowired
+  private TutorialWriteCoalescer writeCoalescer;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Autowired
+  private TutorialService tutorialService;
+
+  /**
+   * Tests that concurrently submitted tutorials are created in group commits and each caller gets its tutorial.
+   */
+  @Test
+  void createsInGroupCommits() throws Exception {
+    DistributionSummary batchSizes = meterRegistry.get(TutorialWriteCoalescer.BATCH_SIZE_SUMMARY).summary();
+    long batches = batchSizes.count();
+
+    List<CompletableFuture<Tutorial>> futures = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      futures.add(writeCoalescer.createTutorial(Tutorial.builder().title("Title " + i).build()));
+    }
+
+    for (int i = 0; i < futures.size(); i++) {
+      Tutorial created = futures.get(i).get();
+      assertNotNull(created.getId());
+      assertEquals("Title " + i, tutorialRepository.findById(created.getId()).orElseThrow().getTitle());
+    }
+    assertEquals(13, tutorialRepository.count());
+    assertTrue(batchSizes.count() - batches < futures.size());
+  }
+
+  /**
+   * Tests that a failing tutorial only fails its own caller.
+   */
+  @Test
+  void failsOnlyFailingTutorial() throws Exception {
+    CompletableFuture<Tutorial> valid = writeCoalescer.createTutorial(Tutorial.builder().title("Valid").build());
+    CompletableFuture<Tutorial> invalid =
+        writeCoalescer.createTutorial(Tutorial.builder().title("x".repeat(300)).build());
+
+    assertNotNull(valid.get().getId());
+    ExecutionException e = assertThrows(ExecutionException.class, invalid::get);
+    assertInstanceOf(ServiceException.class, e.getCause());
+    assertEquals(4, tutorialRepository.count());
+  }
+
+  /**
+   * Tests that an unexpected error only fails its batch and that a stopped coalescer rejects tutorials.
+   */
+  @Test
+  void survivesErrorsAndRejectsAfterStop() throws Exception {
+    TutorialService failingService = mock(TutorialService.class);
+    when(failingService.createTutorial(any()))
+        .thenThrow(new OutOfMemoryError("test"))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+    TutorialWriteCoalescer coalescer = new TutorialWriteCoalescer(failingService, 1, Duration.ZERO, 10,
+        Duration.ofSeconds(5), new SimpleMeterRegistry());
+    coalescer.start();
+    try {
+      ExecutionException e = assertThrows(ExecutionException.class,
+          () -> coalescer.createTutorial(testTutorial).get(5, TimeUnit.SECONDS));
+      assertInstanceOf(ServiceException.class, e.getCause());
+      assertEquals(TITLE_4, coalescer.createTutorial(testTutorial).get(5, TimeUnit.SECONDS).getTitle());
+    } finally {
+      coalescer.stop();
+    }
+
+    CompletableFuture<Tutorial> late = coalescer.createTutorial(testTutorial);
+    assertTrue(late.isCompletedExceptionally());
+  }
+
+  /**
+   * Tests that a tutorial whose caller has timed out and cancelled its future is not created later.
+   */
+  @Test
+  void skipsTimedOutTutorials() throws Exception {
+    CountDownLatch writerBlocked = new CountDownLatch(1);
+    TutorialService slowService = mock(TutorialService.class);
+    when(slowService.createTutorial(any())).thenAnswer(invocation -> {
+      writerBlocked.await(5, TimeUnit.SECONDS);
+      return tutorialService.createTutorial(invocation.getArgument(0));
+    });
+    TutorialWriteCoalescer coalescer = new TutorialWriteCoalescer(slowService, 1, Duration.ZERO, 10,
+        Duration.ofMillis(100), new SimpleMeterRegistry());
+    coalescer.start();
+    try {
+      CompletableFuture<Tutorial> first = coalescer.createTutorial(Tutorial.builder().title("First").build());
+      CompletableFuture<Tutorial> timedOut = coalescer.createTutorial(Tutorial.builder().title("Timed out").build());
+      assertThrows(TimeoutException.class, () -> timedOut.get(100, TimeUnit.MILLISECONDS));
+      assertTrue(timedOut.cancel(false));
+      writerBlocked.countDown();
+
+      assertNotNull(first.get(5, TimeUnit.SECONDS).getId());
+      assertNotNull(coalescer.createTutorial(Tutorial.builder().title("Last").build())
+          .get(5, TimeUnit.SECONDS).getId());
+    } finally {
+      coalescer.stop();
+    }
+    assertEquals(5, tutorialRepository.count());
+    assertFalse(tutorialRepository.findAll().stream().anyMatch(t -> "Timed out".equals(t.getTitle())));
+  }
+}
@@ -8,10 +8,15 @@ CREATE TABLE `tutorials` (
   `id` int NOT NULL AUTO_INCREMENT,
    `title` varchar(100) DEFAULT NULL,
    `description` varchar(100) DEFAULT NULL,
+   `version` bigint DEFAULT 0 NOT NULL,
+   `revision` bigint DEFAULT 0 NOT NULL,
+   `deleted` boolean DEFAULT false NOT NULL,
    PRIMARY KEY (`id`)
 );
 
+CREATE INDEX ix_tutorials_revision ON `tutorials` (`revision`, `id`);
+
 CREATE SEQUENCE IF NOT EXISTS tutorials_seq
     START WITH 100
-    INCREMENT BY 1
+    INCREMENT BY 50
     MINVALUE 100;